@@ -0,0 +1,100 @@
+package wooteco.subway.benchmark;
+
+import wooteco.subway.maps.config.SyntheticNetworkGenerator;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.station.domain.Station;
+
+import java.lang.reflect.Field;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public enum BenchmarkNetwork {
+    DATA_LOADER(4, 3, 2) {
+        @Override
+        public List<Line> createLines() {
+            // DataLoaderConfig 와 같은 노선도
+            Line line1 = createLine(1L, "신분당선", 0);
+            line1.addLineStation(new LineStation(1L, null, 0, 0));
+            line1.addLineStation(new LineStation(3L, 1L, 3, 1));
+
+            Line line2 = createLine(2L, "2호선", 0);
+            line2.addLineStation(new LineStation(2L, null, 0, 0));
+            line2.addLineStation(new LineStation(1L, 2L, 3, 1));
+
+            Line line3 = createLine(3L, "3호선", 0);
+            line3.addLineStation(new LineStation(2L, null, 0, 0));
+            line3.addLineStation(new LineStation(4L, 2L, 2, 10));
+            line3.addLineStation(new LineStation(3L, 4L, 2, 10));
+
+            List<Line> lines = new ArrayList<>();
+            lines.add(line1);
+            lines.add(line2);
+            lines.add(line3);
+            return lines;
+        }
+    },
+    SEOUL(600, 20, 80),
+    SEOUL_X10(6000, 200, 800);
+
+    private static final long SEED = 2020L;
+    private static final int HUBS_PER_LINE = 8;
+
+    private final int stationCount;
+    private final int lineCount;
+    private final int hubCount;
+
+    BenchmarkNetwork(int stationCount, int lineCount, int hubCount) {
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.hubCount = hubCount;
+    }
+
+    public List<Line> createLines() {
+        List<Long> stationIds = new ArrayList<>();
+        for (long id = 1; id <= stationCount; id++) {
+            stationIds.add(id);
+        }
+
+        SyntheticNetworkGenerator generator = new SyntheticNetworkGenerator(lineCount, hubCount, HUBS_PER_LINE, SEED);
+        List<Line> lines = generator.createLines(stationIds);
+        for (int i = 0; i < lines.size(); i++) {
+            setId(lines.get(i), (long) i + 1);
+        }
+        return lines;
+    }
+
+    public Map<Long, Station> createStations() {
+        Map<Long, Station> stations = new HashMap<>();
+        for (long id = 1; id <= stationCount; id++) {
+            stations.put(id, setId(new Station(id + "역"), id));
+        }
+        return stations;
+    }
+
+    public static Line createLine(Long id, String name, int extraFare) {
+        return setId(new Line(name, "COLOR", LocalTime.of(5, 30), LocalTime.of(23, 30), 10, extraFare), id);
+    }
+
+    private static <T> T setId(T entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+}
@@ -0,0 +1,52 @@
+package wooteco.subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.map.domain.FareCalculator;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.domain.SubwayPath;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FareBenchmark {
+    private static final int PATH_COUNT = 256;
+
+    @Param({"DATA_LOADER", "SEOUL", "SEOUL_X10"})
+    public BenchmarkNetwork network;
+
+    private FareCalculator fareCalculator;
+    private SubwayPath[] paths;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<Line> lines = network.createLines();
+        SubwayNetwork subwayNetwork = SubwayNetwork.of(1L, lines);
+        PathQueries queries = new PathQueries(lines);
+
+        fareCalculator = subwayNetwork.getFareCalculator();
+        paths = new SubwayPath[PATH_COUNT];
+        for (int i = 0; i < PATH_COUNT; i++) {
+            int query = queries.next();
+            paths[i] = subwayNetwork.getCompactGraph(PathType.DISTANCE).findPath(queries.sourceAt(query), queries.targetAt(query));
+        }
+    }
+
+    @Benchmark
+    public int calculateFare() {
+        cursor = (cursor + 1) % PATH_COUNT;
+        return fareCalculator.calculateFare(paths[cursor]);
+    }
+}
@@ -0,0 +1,41 @@
+package wooteco.subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LineStationsBenchmark {
+    @Param({"10", "50", "200"})
+    public int stationCount;
+
+    private Line line;
+
+    @Setup
+    public void setUp() {
+        line = BenchmarkNetwork.createLine(1L, "1호선", 0);
+        Long preStationId = null;
+        for (long id = 1; id <= stationCount; id++) {
+            Long stationId = id;
+            line.addLineStation(new LineStation(stationId, preStationId, 1, 1));
+            preStationId = stationId;
+        }
+    }
+
+    @Benchmark
+    public List<LineStation> getStationsInOrder() {
+        return line.getStationInOrder();
+    }
+}
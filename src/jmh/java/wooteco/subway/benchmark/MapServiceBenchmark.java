@@ -0,0 +1,85 @@
+package wooteco.subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.maps.line.application.LineService;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.map.application.MapService;
+import wooteco.subway.maps.map.application.PathService;
+import wooteco.subway.maps.map.application.SubwayNetworkService;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.dto.PathResponse;
+import wooteco.subway.maps.station.application.StationService;
+import wooteco.subway.maps.station.domain.Station;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경로 탐색, 요금 계산, 응답 조립까지 포함한 MapService.findPath 의 처리량을 잰다.
+ * 저장소 대신 메모리의 노선도를 돌려주는 서비스를 사용하므로 DB 비용은 포함되지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MapServiceBenchmark {
+    @Param({"DATA_LOADER", "SEOUL", "SEOUL_X10"})
+    public BenchmarkNetwork network;
+
+    @Param({"DISTANCE", "DURATION"})
+    public PathType type;
+
+    private MapService mapService;
+    private PathQueries queries;
+
+    @Setup
+    public void setUp() {
+        List<Line> lines = network.createLines();
+        Map<Long, Line> linesById = lines.stream().collect(Collectors.toMap(Line::getId, Function.identity()));
+        Map<Long, Station> stations = network.createStations();
+        SubwayNetwork subwayNetwork = SubwayNetwork.of(1L, lines);
+
+        LineService lineService = new LineService(null, null, null) {
+            @Override
+            public List<Line> findLines() {
+                return lines;
+            }
+
+            @Override
+            public Line findLineById(Long id) {
+                return linesById.get(id);
+            }
+        };
+        StationService stationService = new StationService(null, null) {
+            @Override
+            public Map<Long, Station> findStationsByIds(List<Long> ids) {
+                return ids.stream().distinct().collect(Collectors.toMap(Function.identity(), stations::get));
+            }
+        };
+        SubwayNetworkService subwayNetworkService = new SubwayNetworkService(lineService) {
+            @Override
+            public SubwayNetwork getNetwork() {
+                return subwayNetwork;
+            }
+        };
+
+        mapService = new MapService(lineService, stationService, new PathService(), subwayNetworkService);
+        queries = new PathQueries(lines);
+    }
+
+    @Benchmark
+    public PathResponse findPath() {
+        int query = queries.next();
+        return mapService.findPath(queries.sourceAt(query), queries.targetAt(query), type);
+    }
+}
@@ -0,0 +1,83 @@
+package wooteco.subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.map.application.PathService;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.domain.SubwayPath;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노선도 크기와 경로 조회 기준별로 PathService.findPath 의 처리량을 비교한다.
+ * rebuildGraph 는 조회마다 그래프를 다시 만들던 예전 방식이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PathBenchmark {
+    @Param({"DATA_LOADER", "SEOUL", "SEOUL_X10"})
+    public BenchmarkNetwork network;
+
+    @Param({"DISTANCE", "DURATION"})
+    public PathType type;
+
+    private List<Line> lines;
+    private SubwayNetwork subwayNetwork;
+    private PathService pathService;
+    private PathQueries queries;
+
+    @Setup
+    public void setUp() {
+        lines = network.createLines();
+        subwayNetwork = SubwayNetwork.of(1L, lines);
+        subwayNetwork.buildContractionHierarchies();
+        pathService = new PathService();
+        queries = new PathQueries(lines);
+    }
+
+    @Benchmark
+    public SubwayPath rebuildGraph() {
+        int query = queries.next();
+        return pathService.findPath(lines, queries.sourceAt(query), queries.targetAt(query), type);
+    }
+
+    @Benchmark
+    public SubwayPath cachedJgrapht() {
+        int query = queries.next();
+        return pathService.findPath(subwayNetwork.getGraph(type), queries.sourceAt(query), queries.targetAt(query));
+    }
+
+    @Benchmark
+    public SubwayPath compact() {
+        int query = queries.next();
+        return subwayNetwork.getCompactGraph(type).findPath(queries.sourceAt(query), queries.targetAt(query));
+    }
+
+    @Benchmark
+    public SubwayPath bidirectional() {
+        int query = queries.next();
+        return subwayNetwork.getCompactGraph(type).findPathBidirectional(queries.sourceAt(query), queries.targetAt(query));
+    }
+
+    @Benchmark
+    public SubwayPath landmarks() {
+        int query = queries.next();
+        return subwayNetwork.getCompactGraph(type).findPathWithLandmarks(queries.sourceAt(query), queries.targetAt(query));
+    }
+
+    @Benchmark
+    public SubwayPath contractionHierarchy() {
+        int query = queries.next();
+        return subwayNetwork.findContractionHierarchy(type).get().findPath(queries.sourceAt(query), queries.targetAt(query));
+    }
+}
@@ -0,0 +1,44 @@
+package wooteco.subway.benchmark;
+
+import wooteco.subway.maps.line.domain.Line;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class PathQueries {
+    private static final int SIZE = 1024;
+
+    private final long[] sources = new long[SIZE];
+    private final long[] targets = new long[SIZE];
+    private int cursor;
+
+    public PathQueries(List<Line> lines) {
+        Set<Long> stationIds = new LinkedHashSet<>();
+        lines.forEach(line -> line.getStationInOrder().forEach(it -> stationIds.add(it.getStationId())));
+        List<Long> candidates = new ArrayList<>(stationIds);
+
+        Random random = new Random(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            sources[i] = candidates.get(random.nextInt(candidates.size()));
+            do {
+                targets[i] = candidates.get(random.nextInt(candidates.size()));
+            } while (targets[i] == sources[i]);
+        }
+    }
+
+    public int next() {
+        cursor = (cursor + 1) & (SIZE - 1);
+        return cursor;
+    }
+
+    public Long sourceAt(int index) {
+        return sources[index];
+    }
+
+    public Long targetAt(int index) {
+        return targets[index];
+    }
+}
@@ -0,0 +1,74 @@
+package wooteco.subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import wooteco.security.core.Authentication;
+import wooteco.security.core.AuthenticationPrincipal;
+import wooteco.security.core.context.SecurityContext;
+import wooteco.security.core.context.SecurityContextHolder;
+import wooteco.security.web.AuthenticationPrincipalArgumentResolver;
+import wooteco.subway.members.member.domain.LoginMember;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰에서 꺼낸 Map 을 @AuthenticationPrincipal LoginMember 로 바꾸는 비용을 잰다.
+ * reflection 은 요청마다 필드와 생성자를 리플렉션으로 찾던 이전 방식이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrincipalBindingBenchmark {
+    private AuthenticationPrincipalArgumentResolver resolver;
+    private MethodParameter parameter;
+    private Map<String, String> principal;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        principal = new HashMap<>();
+        principal.put("id", "1");
+        principal.put("email", "email@email.com");
+        principal.put("password", "password");
+        principal.put("age", "20");
+        SecurityContextHolder.setContext(new SecurityContext(new Authentication(principal)));
+
+        resolver = new AuthenticationPrincipalArgumentResolver();
+        parameter = new MethodParameter(getClass().getDeclaredMethod("handle", LoginMember.class), 0);
+    }
+
+    @Benchmark
+    public Object binder() {
+        return resolver.resolveArgument(parameter, null, null, null);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        Object[] params = Arrays.stream(parameter.getParameterType().getDeclaredFields())
+                .map(it -> toObject(it.getType(), principal.get(it.getName())))
+                .toArray();
+        return parameter.getParameterType().getConstructors()[0].newInstance(params);
+    }
+
+    private static Object toObject(Class<?> type, String value) {
+        if (Boolean.class == type) return Boolean.parseBoolean(value);
+        if (Byte.class == type) return Byte.parseByte(value);
+        if (Short.class == type) return Short.parseShort(value);
+        if (Integer.class == type) return Integer.parseInt(value);
+        if (Long.class == type) return Long.parseLong(value);
+        if (Float.class == type) return Float.parseFloat(value);
+        if (Double.class == type) return Double.parseDouble(value);
+        return value;
+    }
+
+    private void handle(@AuthenticationPrincipal LoginMember loginMember) {
+    }
+}
@@ -1,21 +1,47 @@
 package wooteco.security.oauth2.token;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 
 @Component
 public class JwtTokenProvider {
+    // 한 번 검증한 토큰은 만료 전까지 서명을 다시 확인하지 않는다. 원문 대신 해시를 키로 보관한다
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    private final Cache<HashCode, VerifiedToken> verifiedTokens = CacheBuilder.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .build();
+
+    private final LongSupplier clock;
+
     @Value("${security.jwt.token.secret-key}")
     private String secretKey;
     @Value("${security.jwt.token.expire-length}")
     private long validityInMilliseconds;
 
+    public JwtTokenProvider() {
+        this.clock = System::currentTimeMillis;
+    }
+
+    JwtTokenProvider(String secretKey, long validityInMilliseconds, LongSupplier clock) {
+        this.secretKey = secretKey;
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.clock = clock;
+    }
+
     public String createToken(String payload) {
         Claims claims = Jwts.claims().setSubject(payload);
-        Date now = new Date();
+        Date now = new Date(clock.getAsLong());
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
@@ -27,17 +53,64 @@ public class JwtTokenProvider {
     }
 
     public String getPayload(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+        return parser().parseClaimsJws(token).getBody().getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+        return findPayload(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료를 확인하고 payload 를 돌려준다. 유효하지 않으면 빈 값을 돌려준다.
+     */
+    public Optional<String> findPayload(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+        long now = clock.getAsLong();
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (cached.isExpiredAt(now)) {
+                verifiedTokens.invalidate(key);
+                return Optional.empty();
+            }
+            return Optional.of(cached.payload);
+        }
 
-            return !claims.getBody().getExpiration().before(new Date());
+        try {
+            Claims claims = parser().parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (claims.getSubject() == null || expiration == null || expiration.getTime() < now) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(key, new VerifiedToken(claims.getSubject(), expiration.getTime()));
+            return Optional.of(claims.getSubject());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
-}
 
+    private JwtParser parser() {
+        return Jwts.parser().setSigningKey(secretKey).setClock(() -> new Date(clock.getAsLong()));
+    }
+
+    long getVerifiedTokenCount() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.size();
+    }
+
+    private static class VerifiedToken {
+        private final String payload;
+        private final long expiration;
+
+        private VerifiedToken(String payload, long expiration) {
+            this.payload = payload;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpiredAt(long now) {
+            return expiration < now;
+        }
+    }
+}
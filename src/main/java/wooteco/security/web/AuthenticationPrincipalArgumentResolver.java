@@ -9,10 +9,13 @@ import wooteco.security.core.Authentication;
 import wooteco.security.core.AuthenticationPrincipal;
 import wooteco.security.core.context.SecurityContextHolder;
 
-import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+    // 파라미터마다 한 번 만든 바인더를 재사용해 요청마다 필드와 생성자를 찾지 않는다
+    private final Map<MethodParameter, PrincipalBinder> binders = new ConcurrentHashMap<>();
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(AuthenticationPrincipal.class);
@@ -34,25 +37,21 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
     private Object extractPrincipal(MethodParameter parameter, Authentication authentication) {
         try {
             Map<String, String> principal = (Map) authentication.getPrincipal();
-
-            Object[] params = Arrays.stream(parameter.getParameterType().getDeclaredFields())
-                    .map(it -> toObject(it.getType(), principal.get(it.getName())))
-                    .toArray();
-
-            return parameter.getParameterType().getConstructors()[0].newInstance(params);
+            return findBinder(parameter).bind(principal);
         } catch (Exception e) {
             throw new AuthorizationException();
         }
     }
 
+    private PrincipalBinder findBinder(MethodParameter parameter) {
+        return binders.computeIfAbsent(parameter, it -> PrincipalBinder.of(it.getParameterType()));
+    }
+
+    /**
+     * @deprecated 값 변환은 파라미터 타입마다 만든 바인더가 맡는다. 바깥 호출을 위해서만 남겨 둔다.
+     */
+    @Deprecated
     public static Object toObject(Class clazz, String value) {
-        if (Boolean.class == clazz) return Boolean.parseBoolean(value);
-        if (Byte.class == clazz) return Byte.parseByte(value);
-        if (Short.class == clazz) return Short.parseShort(value);
-        if (Integer.class == clazz) return Integer.parseInt(value);
-        if (Long.class == clazz) return Long.parseLong(value);
-        if (Float.class == clazz) return Float.parseFloat(value);
-        if (Double.class == clazz) return Double.parseDouble(value);
-        return value;
+        return PrincipalBinder.converterOf(clazz).apply(value);
     }
 }
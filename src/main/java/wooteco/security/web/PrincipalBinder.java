@@ -0,0 +1,94 @@
+package wooteco.security.web;
+
+import org.springframework.beans.BeanUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 인증 정보의 Map 을 {@link wooteco.security.core.AuthenticationPrincipal} 파라미터 타입의 객체로 바꾼다.
+ * 유일한 public 생성자의 파라미터 이름으로 값을 찾아 파라미터 타입에 맞게 변환해 넘기며,
+ * 값 변환기와 생성자 핸들은 타입마다 한 번만 만든다.
+ */
+class PrincipalBinder {
+    private final String[] names;
+    private final List<Function<String, Object>> converters;
+    private final MethodHandle constructor;
+
+    private PrincipalBinder(String[] names, List<Function<String, Object>> converters, MethodHandle constructor) {
+        this.names = names;
+        this.converters = converters;
+        this.constructor = constructor;
+    }
+
+    static PrincipalBinder of(Class<?> type) {
+        Constructor<?> constructor = findConstructor(type);
+        String[] names = findParameterNames(constructor);
+        List<Function<String, Object>> converters = new ArrayList<>();
+        for (Class<?> parameterType : constructor.getParameterTypes()) {
+            converters.add(converterOf(parameterType));
+        }
+
+        // 인자 배열 하나를 받아 펼쳐 넘기도록 바꿔 두면 호출할 때 리플렉션을 거치지 않는다
+        MethodHandle handle = unreflect(constructor);
+        handle = handle.asType(handle.type().generic())
+                .asSpreader(Object[].class, names.length);
+        return new PrincipalBinder(names, converters, handle);
+    }
+
+    // 어느 생성자를 쓸지 모호하지 않도록 public 생성자가 하나뿐인 타입만 받는다
+    private static Constructor<?> findConstructor(Class<?> type) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException("expected exactly one public constructor: " + type.getName());
+        }
+        return constructors[0];
+    }
+
+    // 필드 선언 순서는 JVM 이 정하지 않으므로 생성자 파라미터 이름(-parameters 또는 @ConstructorProperties)으로 값을 찾는다
+    private static String[] findParameterNames(Constructor<?> constructor) {
+        try {
+            return BeanUtils.getParameterNames(constructor);
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("cannot discover constructor parameter names: " + constructor, e);
+        }
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) {
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("inaccessible constructor: " + constructor, e);
+        }
+    }
+
+    static Function<String, Object> converterOf(Class<?> type) {
+        if (Boolean.class == type) return Boolean::parseBoolean;
+        if (Byte.class == type) return Byte::parseByte;
+        if (Short.class == type) return Short::parseShort;
+        if (Integer.class == type) return Integer::parseInt;
+        if (Long.class == type) return Long::parseLong;
+        if (Float.class == type) return Float::parseFloat;
+        if (Double.class == type) return Double::parseDouble;
+        return it -> it;
+    }
+
+    Object bind(Map<String, String> principal) throws Exception {
+        Object[] arguments = new Object[names.length];
+        for (int i = 0; i < names.length; i++) {
+            arguments[i] = converters.get(i).apply(principal.get(names[i]));
+        }
+        try {
+            return (Object) constructor.invokeExact(arguments);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
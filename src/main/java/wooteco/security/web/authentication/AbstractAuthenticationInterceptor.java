@@ -7,6 +7,7 @@ import wooteco.security.core.Authentication;
 import wooteco.security.web.authentication.handler.AuthenticationFailureHandler;
 import wooteco.security.web.authentication.handler.AuthenticationSuccessHandler;
 import wooteco.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
@@ -17,17 +18,26 @@ public abstract class AbstractAuthenticationInterceptor implements HandlerInterc
     private AuthenticationManager authenticationManager;
     private AuthenticationSuccessHandler successHandler;
     private AuthenticationFailureHandler failureHandler;
+    private LoginRateLimiter loginRateLimiter;
 
-    protected AbstractAuthenticationInterceptor(AuthenticationManager authenticationManager, AuthenticationSuccessHandler successHandler, AuthenticationFailureHandler failureHandler) {
+    protected AbstractAuthenticationInterceptor(AuthenticationManager authenticationManager, AuthenticationSuccessHandler successHandler, AuthenticationFailureHandler failureHandler, LoginRateLimiter loginRateLimiter) {
         this.authenticationManager = authenticationManager;
         this.successHandler = successHandler;
         this.failureHandler = failureHandler;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        AuthenticationToken authenticationToken = convert(request);
+        // 사용자 정보를 조회하기 전에 거절해 DB 에 부담을 주지 않는다
+        if (!loginRateLimiter.tryAcquire(authenticationToken.getPrincipal(), request.getRemoteAddr())) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+
         try {
-            Authentication authentication = attemptAuthentication(request, response);
+            Authentication authentication = authenticationManager.authenticate(authenticationToken);
             successfulAuthentication(request, response, authentication);
         } catch (AuthenticationException e) {
             unsuccessfulAuthentication(request, response, e);
@@ -49,10 +59,5 @@ public abstract class AbstractAuthenticationInterceptor implements HandlerInterc
         failureHandler.onAuthenticationFailure(request, response, failed);
     }
 
-    public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) {
-        AuthenticationToken authenticationToken = convert(request);
-        return authenticationManager.authenticate(authenticationToken);
-    }
-
     protected abstract AuthenticationToken convert(HttpServletRequest request);
 }
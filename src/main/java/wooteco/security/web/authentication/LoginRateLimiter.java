@@ -0,0 +1,117 @@
+package wooteco.security.web.authentication;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도를 아이디와 클라이언트 IP 마다 토큰 버킷으로 제한한다.
+ * 버킷은 다음 토큰이 채워질 시각 하나만 AtomicLong 에 담아 CAS 로 갱신하므로 잠금 없이 동작한다.
+ * 버킷은 크기 제한 캐시에 두고, 가득 찰 만큼 쓰이지 않은 버킷은 지운다. 가득 찬 버킷은 새로 만든 버킷과 같다.
+ */
+public class LoginRateLimiter {
+    private static final String PRINCIPAL_PREFIX = "principal:";
+    private static final String CLIENT_PREFIX = "client:";
+
+    private final Limit principalLimit;
+    private final Limit clientLimit;
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier clock;
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder rejectedByPrincipal = new LongAdder();
+    private final LongAdder rejectedByClient = new LongAdder();
+
+    public LoginRateLimiter(Limit principalLimit, Limit clientLimit, long maximumKeys) {
+        this(principalLimit, clientLimit, maximumKeys, System::nanoTime);
+    }
+
+    LoginRateLimiter(Limit principalLimit, Limit clientLimit, long maximumKeys, LongSupplier clock) {
+        this.principalLimit = principalLimit;
+        this.clientLimit = clientLimit;
+        this.buckets = CacheBuilder.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Math.max(principalLimit.refillNanos(), clientLimit.refillNanos()), TimeUnit.NANOSECONDS)
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * 클라이언트와 아이디 버킷에서 토큰을 하나씩 꺼낸다. 클라이언트 버킷이 비었으면 아이디 버킷은 건드리지 않는다.
+     */
+    public boolean tryAcquire(String principal, String clientAddress) {
+        long now = clock.getAsLong();
+        if (!tryConsume(bucketOf(CLIENT_PREFIX + clientAddress, now), clientLimit, now)) {
+            rejectedByClient.increment();
+            return false;
+        }
+        if (!tryConsume(bucketOf(PRINCIPAL_PREFIX + principal, now), principalLimit, now)) {
+            rejectedByPrincipal.increment();
+            return false;
+        }
+        permitted.increment();
+        return true;
+    }
+
+    // 새 버킷은 가득 찬 상태로 시작한다
+    private AtomicLong bucketOf(String key, long now) {
+        return buckets.asMap().computeIfAbsent(key, it -> new AtomicLong(now));
+    }
+
+    // 다음 토큰이 채워질 시각을 한 간격 미루되, 지금보다 용량만큼의 간격 넘게 미뤄지면 토큰이 없는 것이다
+    private boolean tryConsume(AtomicLong bucket, Limit limit, long now) {
+        while (true) {
+            long refillAt = bucket.get();
+            long next = Math.max(refillAt - now, 0) + limit.intervalNanos;
+            if (next > limit.refillNanos()) {
+                return false;
+            }
+            if (bucket.compareAndSet(refillAt, now + next)) {
+                return true;
+            }
+        }
+    }
+
+    public long getPermitted() {
+        return permitted.sum();
+    }
+
+    public long getRejectedByPrincipal() {
+        return rejectedByPrincipal.sum();
+    }
+
+    public long getRejectedByClient() {
+        return rejectedByClient.sum();
+    }
+
+    public long getKeyCount() {
+        return buckets.size();
+    }
+
+    public static class Limit {
+        private final int capacity;
+        private final long intervalNanos;
+
+        private Limit(int capacity, long intervalNanos) {
+            this.capacity = capacity;
+            this.intervalNanos = intervalNanos;
+        }
+
+        /**
+         * 한 번에 capacity 번까지 시도할 수 있고, 1분에 perMinute 개씩 다시 채운다.
+         */
+        public static Limit perMinute(int capacity, int perMinute) {
+            if (capacity < 1 || perMinute < 1) {
+                throw new IllegalArgumentException("capacity and rate must be positive: " + capacity + ", " + perMinute);
+            }
+            return new Limit(capacity, TimeUnit.MINUTES.toNanos(1) / perMinute);
+        }
+
+        private long refillNanos() {
+            return capacity * intervalNanos;
+        }
+    }
+}
@@ -13,8 +13,8 @@ import java.util.Base64;
 public class TokenAuthenticationInterceptor extends AbstractAuthenticationInterceptor {
     private static final String REGEX = ":";
 
-    public TokenAuthenticationInterceptor(AuthenticationManager authenticationManager, AuthenticationSuccessHandler successHandler, AuthenticationFailureHandler failureHandler) {
-        super(authenticationManager, successHandler, failureHandler);
+    public TokenAuthenticationInterceptor(AuthenticationManager authenticationManager, AuthenticationSuccessHandler successHandler, AuthenticationFailureHandler failureHandler, LoginRateLimiter loginRateLimiter) {
+        super(authenticationManager, successHandler, failureHandler, loginRateLimiter);
     }
 
     @Override
@@ -12,8 +12,8 @@ public class UsernamePasswordAuthenticationInterceptor extends AbstractAuthentic
     public static final String USERNAME_FIELD = "username";
     public static final String PASSWORD_FIELD = "password";
 
-    public UsernamePasswordAuthenticationInterceptor(AuthenticationManager authenticationManager, AuthenticationSuccessHandler successHandler, AuthenticationFailureHandler failureHandler) {
-        super(authenticationManager, successHandler, failureHandler);
+    public UsernamePasswordAuthenticationInterceptor(AuthenticationManager authenticationManager, AuthenticationSuccessHandler successHandler, AuthenticationFailureHandler failureHandler, LoginRateLimiter loginRateLimiter) {
+        super(authenticationManager, successHandler, failureHandler, loginRateLimiter);
     }
 
     @Override
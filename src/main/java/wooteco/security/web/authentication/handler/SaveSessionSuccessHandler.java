@@ -2,18 +2,21 @@ package wooteco.security.web.authentication.handler;
 
 import wooteco.security.core.Authentication;
 import wooteco.security.core.context.SecurityContext;
+import wooteco.security.web.context.SecurityContextRepository;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
-
-import static wooteco.security.core.context.SecurityContextHolder.SPRING_SECURITY_CONTEXT_KEY;
 
 public class SaveSessionSuccessHandler implements AuthenticationSuccessHandler {
+    private SecurityContextRepository securityContextRepository;
+
+    public SaveSessionSuccessHandler(SecurityContextRepository securityContextRepository) {
+        this.securityContextRepository = securityContextRepository;
+    }
+
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
-        HttpSession httpSession = request.getSession();
-        httpSession.setAttribute(SPRING_SECURITY_CONTEXT_KEY, new SecurityContext(authentication));
+        securityContextRepository.saveContext(new SecurityContext(authentication), request, response);
         response.setStatus(HttpServletResponse.SC_OK);
     }
 }
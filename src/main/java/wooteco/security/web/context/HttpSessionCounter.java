@@ -0,0 +1,33 @@
+package wooteco.security.web.context;
+
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컨테이너가 만든 세션 수와 현재 살아 있는 세션 수를 센다.
+ * 세션을 만들지 않는 요청이 늘어도 살아 있는 세션 수가 그대로인지 확인하는 데 쓴다.
+ */
+public class HttpSessionCounter implements HttpSessionListener {
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong active = new AtomicLong();
+
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        created.incrementAndGet();
+        active.incrementAndGet();
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        active.decrementAndGet();
+    }
+
+    public long getCreated() {
+        return created.get();
+    }
+
+    public long getActive() {
+        return active.get();
+    }
+}
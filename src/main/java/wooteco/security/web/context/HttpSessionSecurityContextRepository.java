@@ -0,0 +1,29 @@
+package wooteco.security.web.context;
+
+import wooteco.security.core.context.SecurityContext;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import static wooteco.security.core.context.SecurityContextHolder.SPRING_SECURITY_CONTEXT_KEY;
+
+/**
+ * 서블릿 컨테이너의 세션에 인증 정보를 보관한다. 세션은 서버마다 따로 있으므로 한 서버로만 운영할 때 쓴다.
+ */
+public class HttpSessionSecurityContextRepository implements SecurityContextRepository {
+    @Override
+    public SecurityContext loadContext(HttpServletRequest request) {
+        // 세션이 없는 요청에 세션을 새로 만들지 않는다
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        return (SecurityContext) session.getAttribute(SPRING_SECURITY_CONTEXT_KEY);
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        request.getSession().setAttribute(SPRING_SECURITY_CONTEXT_KEY, context);
+    }
+}
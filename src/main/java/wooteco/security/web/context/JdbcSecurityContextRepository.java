@@ -0,0 +1,139 @@
+package wooteco.security.web.context;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import wooteco.security.core.Authentication;
+import wooteco.security.core.context.SecurityContext;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 인증 정보를 DB 테이블에 보관해 같은 DB 를 쓰는 모든 서버가 로그인 상태를 나눠 쓰게 한다.
+ * 테이블은 schema.sql 로 만들고, 만료된 행은 설정에서 스케줄러로 {@link #deleteExpired()} 를 불러 지운다.
+ * 요청은 쿠키의 무작위 아이디로 인증 정보를 찾는다. principal 은 비밀번호 같은 자격 증명을 뺀 JSON 문자열로 저장하며,
+ * 조회하면 {@link wooteco.security.web.AuthenticationPrincipalArgumentResolver} 가 바인딩하는 Map 으로 돌아온다.
+ * 따라서 HttpSession 저장소와 달리 이 저장소에서 복원한 LoginMember 는 password 가 null 이다.
+ * 남은 유효 시간이 절반 아래로 줄어든 인증 정보는 조회할 때 만료 시각을 늦춘다.
+ */
+public class JdbcSecurityContextRepository implements SecurityContextRepository {
+    public static final String COOKIE_NAME = "SUBWAY_SESSION";
+    private static final List<String> CREDENTIAL_PROPERTIES = Arrays.asList("password", "credentials");
+    private static final ObjectMapper PRINCIPAL_MAPPER = new ObjectMapper();
+    private static final ObjectWriter PRINCIPAL_WRITER = PRINCIPAL_MAPPER.writer();
+    private static final ObjectReader PRINCIPAL_READER = new ObjectMapper()
+            .readerFor(new TypeReference<Map<String, String>>() {
+            });
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+
+    public JdbcSecurityContextRepository(DataSource dataSource, Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    public SecurityContext loadContext(HttpServletRequest request) {
+        String id = findId(request);
+        if (id == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        List<StoredContext> contexts = jdbcTemplate.query(
+                "select principal, expires_at from security_context where id = ? and expires_at > ?",
+                (rs, rowNum) -> new StoredContext(rs.getString("principal"), rs.getLong("expires_at")),
+                id, now);
+        if (contexts.isEmpty()) {
+            return null;
+        }
+
+        StoredContext context = contexts.get(0);
+        if (context.expiresAt - now < ttlMillis / 2) {
+            jdbcTemplate.update("update security_context set expires_at = ? where id = ?", now + ttlMillis, id);
+        }
+        try {
+            Map<String, String> principal = PRINCIPAL_READER.readValue(context.principal);
+            return new SecurityContext(new Authentication(principal));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    // 로그인할 때마다 새 아이디를 발급해, 로그인 전에 알려진 아이디가 그대로 쓰이지 않게 한다
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        String previousId = findId(request);
+        if (previousId != null) {
+            jdbcTemplate.update("delete from security_context where id = ?", previousId);
+        }
+
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("insert into security_context (id, principal, expires_at) values (?, ?, ?)",
+                id, serialize(context), System.currentTimeMillis() + ttlMillis);
+
+        Cookie cookie = new Cookie(COOKIE_NAME, id);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        response.addCookie(cookie);
+    }
+
+    // DB 에는 로그인한 사용자를 다시 만드는 데 필요한 값만 남기고 자격 증명은 저장하지 않는다
+    private String serialize(SecurityContext context) {
+        try {
+            Map<String, Object> principal = PRINCIPAL_MAPPER.convertValue(context.getAuthentication().getPrincipal(),
+                    new TypeReference<LinkedHashMap<String, Object>>() {
+                    });
+            principal.keySet().removeAll(CREDENTIAL_PROPERTIES);
+            return PRINCIPAL_WRITER.writeValueAsString(principal);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new IllegalArgumentException("principal cannot be serialized", e);
+        }
+    }
+
+    private String findId(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 만료된 인증 정보를 지우고 지운 개수를 돌려준다.
+     */
+    public int deleteExpired() {
+        return jdbcTemplate.update("delete from security_context where expires_at <= ?", System.currentTimeMillis());
+    }
+
+    private static class StoredContext {
+        private final String principal;
+        private final long expiresAt;
+
+        private StoredContext(String principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
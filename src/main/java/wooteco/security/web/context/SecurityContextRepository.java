@@ -0,0 +1,19 @@
+package wooteco.security.web.context;
+
+import wooteco.security.core.context.SecurityContext;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 세션 로그인으로 만든 인증 정보를 요청 사이에 보관한다.
+ * 저장소를 바꾸면 여러 서버가 같은 로그인 상태를 나눠 쓸 수 있다.
+ */
+public interface SecurityContextRepository {
+    /**
+     * 요청에 연결된 인증 정보를 찾는다. 없거나 만료되었으면 null 을 돌려준다.
+     */
+    SecurityContext loadContext(HttpServletRequest request);
+
+    void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response);
+}
@@ -0,0 +1,6 @@
+package wooteco.security.web.context;
+
+public enum SecurityContextStore {
+    HTTP_SESSION,
+    JDBC
+}
@@ -7,16 +7,20 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import static wooteco.security.core.context.SecurityContextHolder.SPRING_SECURITY_CONTEXT_KEY;
-
 public class SessionSecurityContextPersistenceInterceptor implements HandlerInterceptor {
+    private SecurityContextRepository securityContextRepository;
+
+    public SessionSecurityContextPersistenceInterceptor(SecurityContextRepository securityContextRepository) {
+        this.securityContextRepository = securityContextRepository;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         if (SecurityContextHolder.getContext().getAuthentication() != null) {
             return true;
         }
 
-        SecurityContext securityContext = (SecurityContext) request.getSession().getAttribute(SPRING_SECURITY_CONTEXT_KEY);
+        SecurityContext securityContext = securityContextRepository.loadContext(request);
         if (securityContext != null) {
             SecurityContextHolder.setContext(securityContext);
         }
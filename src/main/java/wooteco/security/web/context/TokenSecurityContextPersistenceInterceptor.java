@@ -2,6 +2,7 @@ package wooteco.security.web.context;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.springframework.web.servlet.HandlerInterceptor;
 import wooteco.security.web.AuthorizationType;
 import wooteco.security.oauth2.authentication.AuthorizationExtractor;
@@ -13,8 +14,14 @@ import wooteco.security.core.Authentication;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Map;
+import java.util.Optional;
 
 public class TokenSecurityContextPersistenceInterceptor implements HandlerInterceptor {
+    // ObjectReader 는 불변이라 요청마다 ObjectMapper 를 만들지 않고 함께 쓴다
+    private static final ObjectReader PRINCIPAL_READER = new ObjectMapper()
+            .readerFor(new TypeReference<Map<String, String>>() {
+            });
+
     private JwtTokenProvider jwtTokenProvider;
 
     public TokenSecurityContextPersistenceInterceptor(JwtTokenProvider jwtTokenProvider) {
@@ -28,24 +35,21 @@ public class TokenSecurityContextPersistenceInterceptor implements HandlerInterc
         }
 
         String credentials = AuthorizationExtractor.extract(request, AuthorizationType.BEARER);
-        if (!jwtTokenProvider.validateToken(credentials)) {
+        Optional<String> payload = jwtTokenProvider.findPayload(credentials);
+        if (!payload.isPresent()) {
             return true;
         }
 
-        SecurityContext securityContext = extractSecurityContext(credentials);
+        SecurityContext securityContext = extractSecurityContext(payload.get());
         if (securityContext != null) {
             SecurityContextHolder.setContext(securityContext);
         }
         return true;
     }
 
-    private SecurityContext extractSecurityContext(String credentials) {
+    private SecurityContext extractSecurityContext(String payload) {
         try {
-            String payload = jwtTokenProvider.getPayload(credentials);
-            TypeReference<Map<String, String>> typeRef = new TypeReference<Map<String, String>>() {
-            };
-
-            Map principal = new ObjectMapper().readValue(payload, typeRef);
+            Map<String, String> principal = PRINCIPAL_READER.readValue(payload);
             return new SecurityContext(new Authentication(principal));
         } catch (Exception e) {
             return null;
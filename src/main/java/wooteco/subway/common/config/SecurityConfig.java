@@ -1,38 +1,80 @@
 package wooteco.subway.common.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import wooteco.security.core.authentication.AuthenticationProvider;
 import wooteco.security.core.userdetails.UserDetailsService;
 import wooteco.security.oauth2.token.JwtTokenProvider;
+import wooteco.security.web.authentication.LoginRateLimiter;
 import wooteco.security.web.authentication.TokenAuthenticationInterceptor;
 import wooteco.security.web.authentication.UsernamePasswordAuthenticationInterceptor;
 import wooteco.security.web.authentication.handler.IssueTokenSuccessHandler;
 import wooteco.security.web.authentication.handler.SaveSessionSuccessHandler;
 import wooteco.security.web.authentication.handler.SimpleUrlAuthenticationFailureHandler;
+import wooteco.security.web.context.HttpSessionCounter;
+import wooteco.security.web.context.HttpSessionSecurityContextRepository;
+import wooteco.security.web.context.JdbcSecurityContextRepository;
+import wooteco.security.web.context.SecurityContextRepository;
+import wooteco.security.web.context.SecurityContextStore;
 import wooteco.security.web.context.SessionSecurityContextPersistenceInterceptor;
 import wooteco.security.web.context.TokenSecurityContextPersistenceInterceptor;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
 @Configuration
 @ComponentScan("wooteco.security")
 @Profile("!documentation")
 public class SecurityConfig implements WebMvcConfigurer {
     private JwtTokenProvider jwtTokenProvider;
     private UserDetailsService userDetailsService;
+    private DataSource dataSource;
+
+    // 켜면 세션 로그인과 세션 기반 인증 정보 복원을 등록하지 않고 토큰으로만 인증한다
+    @Value("${security.session.stateless:false}")
+    private boolean stateless = false;
+    // JDBC 로 두면 같은 DB 를 쓰는 모든 서버가 세션 로그인 정보를 나눠 쓴다
+    @Value("${security.session.store:HTTP_SESSION}")
+    private SecurityContextStore store = SecurityContextStore.HTTP_SESSION;
+    @Value("${security.session.ttl-seconds:1800}")
+    private long ttlSeconds = 1800;
+    @Value("${security.session.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds = 60;
+    @Value("${security.login.rate-limit.principal.capacity:10}")
+    private int principalCapacity = 10;
+    @Value("${security.login.rate-limit.principal.per-minute:10}")
+    private int principalPerMinute = 10;
+    @Value("${security.login.rate-limit.client.capacity:100}")
+    private int clientCapacity = 100;
+    @Value("${security.login.rate-limit.client.per-minute:100}")
+    private int clientPerMinute = 100;
+    @Value("${security.login.rate-limit.maximum-keys:100000}")
+    private long maximumRateLimitKeys = 100000;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService, DataSource dataSource) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.dataSource = dataSource;
     }
 
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(createUsernamePasswordAuthenticationInterceptor()).addPathPatterns("/login/session");
+        if (!stateless) {
+            registry.addInterceptor(createUsernamePasswordAuthenticationInterceptor()).addPathPatterns("/login/session");
+        }
         registry.addInterceptor(createTokenAuthenticationInterceptor()).addPathPatterns("/login/token");
-        registry.addInterceptor(createSessionSecurityContextPersistenceInterceptor());
+        if (!stateless) {
+            registry.addInterceptor(createSessionSecurityContextPersistenceInterceptor());
+        }
         registry.addInterceptor(createTokenSecurityContextPersistenceInterceptor());
     }
 
@@ -41,7 +83,8 @@ public class SecurityConfig implements WebMvcConfigurer {
         return new UsernamePasswordAuthenticationInterceptor(
                 createAuthenticationProvider(),
                 createSaveSessionSuccessHandler(),
-                createSimpleUrlAuthenticationFailureHandler()
+                createSimpleUrlAuthenticationFailureHandler(),
+                createLoginRateLimiter()
         );
     }
 
@@ -50,10 +93,39 @@ public class SecurityConfig implements WebMvcConfigurer {
         return new TokenAuthenticationInterceptor(
                 createAuthenticationProvider(),
                 createIssueTokenSuccessHandler(),
-                createSimpleUrlAuthenticationFailureHandler()
+                createSimpleUrlAuthenticationFailureHandler(),
+                createLoginRateLimiter()
         );
     }
 
+    // 두 로그인 방식이 같은 버킷을 나눠 써서, 방식을 바꿔 가며 시도해도 제한을 피하지 못한다
+    @Bean
+    public LoginRateLimiter createLoginRateLimiter() {
+        return new LoginRateLimiter(
+                LoginRateLimiter.Limit.perMinute(principalCapacity, principalPerMinute),
+                LoginRateLimiter.Limit.perMinute(clientCapacity, clientPerMinute),
+                maximumRateLimitKeys
+        );
+    }
+
+    @Bean
+    public MeterBinder loginRateLimiterMetrics() {
+        LoginRateLimiter loginRateLimiter = createLoginRateLimiter();
+        return registry -> {
+            FunctionCounter.builder("security.login.attempts", loginRateLimiter, LoginRateLimiter::getPermitted)
+                    .tag("result", "permitted")
+                    .register(registry);
+            FunctionCounter.builder("security.login.attempts", loginRateLimiter, LoginRateLimiter::getRejectedByPrincipal)
+                    .tag("result", "rejected-principal")
+                    .register(registry);
+            FunctionCounter.builder("security.login.attempts", loginRateLimiter, LoginRateLimiter::getRejectedByClient)
+                    .tag("result", "rejected-client")
+                    .register(registry);
+            Gauge.builder("security.login.rate-limiter.keys", loginRateLimiter, LoginRateLimiter::getKeyCount)
+                    .register(registry);
+        };
+    }
+
     @Bean
     public AuthenticationProvider createAuthenticationProvider() {
         return new AuthenticationProvider(userDetailsService);
@@ -66,7 +138,7 @@ public class SecurityConfig implements WebMvcConfigurer {
 
     @Bean
     public SaveSessionSuccessHandler createSaveSessionSuccessHandler() {
-        return new SaveSessionSuccessHandler();
+        return new SaveSessionSuccessHandler(createSecurityContextRepository());
     }
 
     @Bean
@@ -76,7 +148,39 @@ public class SecurityConfig implements WebMvcConfigurer {
 
     @Bean
     public SessionSecurityContextPersistenceInterceptor createSessionSecurityContextPersistenceInterceptor() {
-        return new SessionSecurityContextPersistenceInterceptor();
+        return new SessionSecurityContextPersistenceInterceptor(createSecurityContextRepository());
+    }
+
+    @Bean
+    public SecurityContextRepository createSecurityContextRepository() {
+        if (store == SecurityContextStore.JDBC) {
+            JdbcSecurityContextRepository repository = new JdbcSecurityContextRepository(dataSource, Duration.ofSeconds(ttlSeconds));
+            // 실패한 정리는 스케줄러가 로그만 남기고 다음 주기에 다시 지운다
+            createSecurityContextSweeper().scheduleWithFixedDelay(repository::deleteExpired, Duration.ofSeconds(sweepIntervalSeconds));
+            return repository;
+        }
+        return new HttpSessionSecurityContextRepository();
+    }
+
+    // 컨테이너가 종료할 때 함께 멈추도록 빈으로 등록한다. 작업을 맡기기 전에는 스레드를 만들지 않는다
+    @Bean
+    public ThreadPoolTaskScheduler createSecurityContextSweeper() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("security-context-sweeper-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+
+    @Bean
+    public HttpSessionCounter createHttpSessionCounter(MeterRegistry meterRegistry) {
+        HttpSessionCounter httpSessionCounter = new HttpSessionCounter();
+        Gauge.builder("security.sessions.active", httpSessionCounter, HttpSessionCounter::getActive)
+                .description("Number of live HTTP sessions")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.sessions.created", httpSessionCounter, HttpSessionCounter::getCreated)
+                .description("Number of HTTP sessions created since startup")
+                .register(meterRegistry);
+        return httpSessionCounter;
     }
 
     @Bean
@@ -0,0 +1,24 @@
+package wooteco.subway.common.domain;
+
+public class SubwayNetworkChangedEvent {
+    private final String source;
+    // 한 노선의 구간만 바뀌었을 때 그 노선의 아이디, 그 밖의 변경이면 null
+    private final Long lineId;
+
+    public SubwayNetworkChangedEvent(String source) {
+        this(source, null);
+    }
+
+    public SubwayNetworkChangedEvent(String source, Long lineId) {
+        this.source = source;
+        this.lineId = lineId;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
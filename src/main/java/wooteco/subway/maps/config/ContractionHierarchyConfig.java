@@ -0,0 +1,20 @@
+package wooteco.subway.maps.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ContractionHierarchyConfig {
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService contractionHierarchyExecutor() {
+        // 전처리는 한 번에 하나만 돌리고, 종료를 막지 않도록 데몬 스레드를 사용한다
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "contraction-hierarchy");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
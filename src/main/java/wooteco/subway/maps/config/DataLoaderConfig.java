@@ -13,7 +13,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalTime;
 
 @Component
-@Profile("!documentation")
+@Profile("!documentation & !synthetic")
 public class DataLoaderConfig implements CommandLineRunner {
     private StationRepository stationRepository;
     private LineRepository lineRepository;
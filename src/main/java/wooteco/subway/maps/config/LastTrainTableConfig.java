@@ -0,0 +1,19 @@
+package wooteco.subway.maps.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class LastTrainTableConfig {
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService lastTrainTableExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-train-table");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package wooteco.subway.maps.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import wooteco.subway.maps.map.application.PathResponseCache;
+
+@Configuration
+public class PathCacheConfig {
+    @Value("${subway.path.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Bean
+    public PathResponseCache pathResponseCache(MeterRegistry meterRegistry) {
+        PathResponseCache pathResponseCache = new PathResponseCache(maximumSize);
+        GuavaCacheMetrics.monitor(meterRegistry, pathResponseCache.getCache(), "paths");
+        return pathResponseCache;
+    }
+}
@@ -0,0 +1,22 @@
+package wooteco.subway.maps.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class PathSearchPoolConfig {
+    @Value("${subway.path.search-pool.parallelism:0}")
+    private int parallelism;
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool pathSearchPool() {
+        // 0 이면 사용 가능한 코어 수만큼 스레드를 사용한다
+        if (parallelism > 0) {
+            return new ForkJoinPool(parallelism);
+        }
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
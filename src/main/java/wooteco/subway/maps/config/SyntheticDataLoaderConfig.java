@@ -0,0 +1,49 @@
+package wooteco.subway.maps.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineRepository;
+import wooteco.subway.maps.station.domain.Station;
+import wooteco.subway.maps.station.domain.StationRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("synthetic")
+public class SyntheticDataLoaderConfig implements CommandLineRunner {
+    private StationRepository stationRepository;
+    private LineRepository lineRepository;
+
+    @Value("${subway.synthetic.stations}")
+    private int stationCount;
+    @Value("${subway.synthetic.lines}")
+    private int lineCount;
+    @Value("${subway.synthetic.hubs}")
+    private int hubCount;
+    @Value("${subway.synthetic.hubs-per-line}")
+    private int hubsPerLine;
+    @Value("${subway.synthetic.seed}")
+    private long seed;
+
+    public SyntheticDataLoaderConfig(StationRepository stationRepository, LineRepository lineRepository) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        SyntheticNetworkGenerator generator = new SyntheticNetworkGenerator(lineCount, hubCount, hubsPerLine, seed);
+
+        List<Station> stations = stationRepository.saveAll(generator.createStations(stationCount));
+        List<Long> stationIds = stations.stream()
+                .map(Station::getId)
+                .collect(Collectors.toList());
+
+        List<Line> lines = generator.createLines(stationIds);
+        lineRepository.saveAll(lines);
+    }
+}
@@ -0,0 +1,110 @@
+package wooteco.subway.maps.config;
+
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.station.domain.Station;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트와 벤치마크에 쓸 가상의 노선도를 만든다.
+ * 앞쪽 hubCount 개의 역은 여러 노선이 지나는 환승역이 되고, 나머지 역은 노선마다 나누어 배치한다.
+ * i 번째 노선은 항상 i, i + 1 번째 환승역을 지나므로 만들어진 노선도는 하나로 연결되어 있다.
+ */
+public class SyntheticNetworkGenerator {
+    private static final String[] COLORS = {"red lighten-1", "green lighten-1", "orange darken-1", "blue lighten-1", "purple lighten-1"};
+    private static final int[] EXTRA_FARES = {0, 0, 0, 0, 0, 0, 100, 300, 500, 900};
+
+    private final int lineCount;
+    private final int hubCount;
+    private final int hubsPerLine;
+    private final Random random;
+
+    public SyntheticNetworkGenerator(int lineCount, int hubCount, int hubsPerLine, long seed) {
+        if (lineCount < 1 || hubCount < 2 || hubsPerLine < 2 || hubsPerLine > hubCount) {
+            throw new IllegalArgumentException();
+        }
+        this.lineCount = lineCount;
+        this.hubCount = hubCount;
+        this.hubsPerLine = hubsPerLine;
+        this.random = new Random(seed);
+    }
+
+    public List<Station> createStations(int stationCount) {
+        List<Station> stations = new ArrayList<>();
+        for (int i = 1; i <= stationCount; i++) {
+            stations.add(new Station("가상" + i + "역"));
+        }
+        return stations;
+    }
+
+    public List<Line> createLines(List<Long> stationIds) {
+        if (stationIds.size() < hubCount + lineCount) {
+            throw new IllegalArgumentException();
+        }
+        List<Long> hubs = stationIds.subList(0, hubCount);
+        List<Long> locals = new ArrayList<>(stationIds.subList(hubCount, stationIds.size()));
+        Collections.shuffle(locals, random);
+
+        List<Line> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            List<Long> lineStationIds = new ArrayList<>();
+            for (int j = i; j < locals.size(); j += lineCount) {
+                lineStationIds.add(locals.get(j));
+            }
+            for (Long hub : pickHubs(hubs, i)) {
+                lineStationIds.add(random.nextInt(lineStationIds.size() + 1), hub);
+            }
+            lines.add(createLine(i + 1, lineStationIds));
+        }
+        return lines;
+    }
+
+    private List<Long> pickHubs(List<Long> hubs, int lineIndex) {
+        List<Long> picked = new ArrayList<>();
+        picked.add(hubs.get(lineIndex % hubCount));
+        picked.add(hubs.get((lineIndex + 1) % hubCount));
+        while (picked.size() < hubsPerLine) {
+            Long hub = hubs.get(random.nextInt(hubCount));
+            if (!picked.contains(hub)) {
+                picked.add(hub);
+            }
+        }
+        return picked;
+    }
+
+    private Line createLine(int number, List<Long> stationIds) {
+        LocalTime startTime = LocalTime.of(5, 0).plusMinutes(random.nextInt(60));
+        LocalTime endTime = LocalTime.of(23, 0).plusMinutes(random.nextInt(60));
+        int intervalTime = 3 + random.nextInt(8);
+        int extraFare = EXTRA_FARES[random.nextInt(EXTRA_FARES.length)];
+        Line line = new Line("가상" + number + "호선", COLORS[number % COLORS.length], startTime, endTime, intervalTime, extraFare);
+
+        Long preStationId = null;
+        for (Long stationId : stationIds) {
+            if (preStationId == null) {
+                line.addLineStation(new LineStation(stationId, null, 0, 0));
+            } else {
+                int distance = nextDistance();
+                line.addLineStation(new LineStation(stationId, preStationId, distance, nextDuration(distance)));
+            }
+            preStationId = stationId;
+        }
+        return line;
+    }
+
+    private int nextDistance() {
+        // 역 간 거리는 대부분 1~2km 이고 가끔 긴 구간이 섞인 로그 정규 분포를 따른다
+        double distance = Math.exp(0.4 + 0.5 * random.nextGaussian());
+        return Math.max(1, (int) Math.round(distance));
+    }
+
+    private int nextDuration(int distance) {
+        // 평균 시속 약 35km 에 정차 시간 1분을 더한다
+        return 1 + (int) Math.ceil(distance * 60 / 35.0) + random.nextInt(2);
+    }
+}
@@ -1,5 +1,6 @@
 package wooteco.subway.maps.line.application;
 
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
 import wooteco.subway.maps.line.domain.Line;
 import wooteco.subway.maps.line.domain.LineRepository;
 import wooteco.subway.maps.line.dto.LineRequest;
@@ -8,9 +9,11 @@ import wooteco.subway.maps.line.dto.LineStationResponse;
 import wooteco.subway.maps.station.application.StationService;
 import wooteco.subway.maps.station.domain.Station;
 import wooteco.subway.maps.station.dto.StationResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,18 +23,28 @@ import java.util.stream.Collectors;
 public class LineService {
     private LineRepository lineRepository;
     private StationService stationService;
+    private ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineRepository lineRepository, StationService stationService) {
+    public LineService(LineRepository lineRepository, StationService stationService, ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
         this.stationService = stationService;
+        this.eventPublisher = eventPublisher;
     }
 
     public Line saveLine(LineRequest request) {
-        return lineRepository.save(request.toLine());
+        Line line = lineRepository.save(request.toLine());
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("line"));
+        return line;
     }
 
+    @Transactional(readOnly = true)
     public List<Line> findLines() {
-        return lineRepository.findAll();
+        return lineRepository.findAllWithLineStations();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Line> findLinesWithLineStations(Collection<Long> ids) {
+        return lineRepository.findAllWithLineStationsByIdIn(ids);
     }
 
     public Line findLineById(Long id) {
@@ -41,22 +54,26 @@ public class LineService {
     public void updateLine(Long id, LineRequest lineUpdateRequest) {
         Line persistLine = lineRepository.findById(id).orElseThrow(RuntimeException::new);
         persistLine.update(lineUpdateRequest.toLine());
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("line"));
     }
 
     public void deleteLineById(Long id) {
         lineRepository.deleteById(id);
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("line"));
     }
 
+    @Transactional(readOnly = true)
     public List<LineResponse> findLineResponses() {
-        List<Line> lines = findLines();
+        List<Line> lines = lineRepository.findAll();
 
         return lines.stream()
                 .map(line -> LineResponse.of(line))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public LineResponse findLineResponsesById(Long id) {
-        Line line = lineRepository.findById(id).orElseThrow(RuntimeException::new);
+        Line line = lineRepository.findByIdWithLineStations(id).orElseThrow(RuntimeException::new);
         List<Long> stationIds = line.getStationInOrder().stream()
                 .map(it -> it.getStationId())
                 .collect(Collectors.toList());
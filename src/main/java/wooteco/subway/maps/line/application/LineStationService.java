@@ -1,11 +1,13 @@
 package wooteco.subway.maps.line.application;
 
 import com.google.common.collect.Lists;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
 import wooteco.subway.maps.line.domain.Line;
 import wooteco.subway.maps.line.domain.LineStation;
 import wooteco.subway.maps.line.dto.LineStationCreateRequest;
 import wooteco.subway.maps.station.application.StationService;
 import wooteco.subway.maps.station.domain.Station;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +18,12 @@ import java.util.Map;
 public class LineStationService {
     private LineService lineService;
     private StationService stationService;
+    private ApplicationEventPublisher eventPublisher;
 
-    public LineStationService(LineService lineService, StationService stationService) {
+    public LineStationService(LineService lineService, StationService stationService, ApplicationEventPublisher eventPublisher) {
         this.lineService = lineService;
         this.stationService = stationService;
+        this.eventPublisher = eventPublisher;
     }
 
     public void addLineStation(Long lineId, LineStationCreateRequest request) {
@@ -28,11 +32,13 @@ public class LineStationService {
         Line line = lineService.findLineById(lineId);
         LineStation lineStation = new LineStation(request.getStationId(), request.getPreStationId(), request.getDistance(), request.getDuration());
         line.addLineStation(lineStation);
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("lineStation", lineId));
     }
 
     public void removeLineStation(Long lineId, Long stationId) {
         Line line = lineService.findLineById(lineId);
         line.removeLineStationById(stationId);
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("lineStation", lineId));
     }
 
     private void checkAddLineStationValidation(LineStationCreateRequest request) {
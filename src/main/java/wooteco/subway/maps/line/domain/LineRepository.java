@@ -1,10 +1,30 @@
 package wooteco.subway.maps.line.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
     @Override
     List<Line> findAll();
+
+    @Query("select distinct l from Line l left join fetch l.lineStations.lineStations")
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    List<Line> findAllWithLineStations();
+
+    @Query("select distinct l from Line l left join fetch l.lineStations.lineStations where l.id in :ids")
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    List<Line> findAllWithLineStationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select l from Line l left join fetch l.lineStations.lineStations where l.id = :id")
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Optional<Line> findByIdWithLineStations(@Param("id") Long id);
 }
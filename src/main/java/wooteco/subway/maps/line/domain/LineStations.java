@@ -2,8 +2,10 @@ package wooteco.subway.maps.line.domain;
 
 import javax.persistence.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @Embeddable
 public class LineStations {
@@ -11,36 +13,76 @@ public class LineStations {
     @JoinColumn(name = "line_id", foreignKey = @ForeignKey(name = "fk_line_station_to_line"))
     private List<LineStation> lineStations = new ArrayList<>();
 
+    // 이전 역 아이디로 다음 구간을 찾는 색인, 출발 구간은 null 키에 담긴다
+    @Transient
+    private Map<Long, LineStation> nextLineStations;
+    // 역 아이디로 구간을 찾는 색인
+    @Transient
+    private Map<Long, LineStation> lineStationsByStationId;
+    @Transient
+    private List<LineStation> stationsInOrder;
+
     public List<LineStation> getLineStations() {
         return lineStations;
     }
 
     public List<LineStation> getStationsInOrder() {
+        if (stationsInOrder == null) {
+            stationsInOrder = orderStations();
+        }
+        return stationsInOrder;
+    }
+
+    private List<LineStation> orderStations() {
+        Map<Long, LineStation> nextLineStations = getNextLineStations();
+
         // 출발지점 찾기
-        Optional<LineStation> preLineStation = lineStations.stream()
-                .filter(it -> it.getPreStationId() == null)
-                .findFirst();
+        LineStation current = nextLineStations.get(null);
 
         List<LineStation> result = new ArrayList<>();
-        while (preLineStation.isPresent()) {
-            LineStation preStationId = preLineStation.get();
-            result.add(preStationId);
-            preLineStation = lineStations.stream()
-                    .filter(it -> it.getPreStationId() == preStationId.getStationId())
-                    .findFirst();
+        while (current != null && result.size() < lineStations.size()) {
+            result.add(current);
+            current = nextLineStations.get(current.getStationId());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private Map<Long, LineStation> getNextLineStations() {
+        if (nextLineStations == null) {
+            Map<Long, LineStation> index = new HashMap<>();
+            for (LineStation lineStation : lineStations) {
+                index.putIfAbsent(lineStation.getPreStationId(), lineStation);
+            }
+            nextLineStations = index;
         }
-        return result;
+        return nextLineStations;
+    }
+
+    private Map<Long, LineStation> getLineStationsByStationId() {
+        if (lineStationsByStationId == null) {
+            Map<Long, LineStation> index = new HashMap<>();
+            for (LineStation lineStation : lineStations) {
+                index.putIfAbsent(lineStation.getStationId(), lineStation);
+            }
+            lineStationsByStationId = index;
+        }
+        return lineStationsByStationId;
     }
 
     public void add(LineStation lineStation) {
         checkValidation(lineStation);
 
-        lineStations.stream()
-                .filter(it -> it.getPreStationId() == lineStation.getPreStationId())
-                .findFirst()
-                .ifPresent(it -> it.updatePreStationTo(lineStation.getStationId()));
+        Map<Long, LineStation> nextLineStations = getNextLineStations();
+        LineStation following = nextLineStations.get(lineStation.getPreStationId());
+        if (following != null) {
+            following.updatePreStationTo(lineStation.getStationId());
+            nextLineStations.put(lineStation.getStationId(), following);
+        }
+        nextLineStations.put(lineStation.getPreStationId(), lineStation);
+        getLineStationsByStationId().put(lineStation.getStationId(), lineStation);
 
         lineStations.add(lineStation);
+        stationsInOrder = null;
     }
 
     private void checkValidation(LineStation lineStation) {
@@ -48,22 +90,26 @@ public class LineStations {
             throw new RuntimeException();
         }
 
-        if (lineStations.stream().anyMatch(it -> it.isSame(lineStation))) {
+        if (getLineStationsByStationId().containsKey(lineStation.getStationId())) {
             throw new RuntimeException();
         }
     }
 
     public void removeByStationId(Long stationId) {
-        LineStation lineStation = lineStations.stream()
-                .filter(it -> it.getStationId() == stationId)
-                .findFirst()
-                .orElseThrow(RuntimeException::new);
+        LineStation lineStation = getLineStationsByStationId().remove(stationId);
+        if (lineStation == null) {
+            throw new RuntimeException();
+        }
 
-        lineStations.stream()
-                .filter(it -> it.getPreStationId() == stationId)
-                .findFirst()
-                .ifPresent(it -> it.updatePreStationTo(lineStation.getPreStationId()));
+        Map<Long, LineStation> nextLineStations = getNextLineStations();
+        nextLineStations.remove(lineStation.getPreStationId(), lineStation);
+        LineStation following = nextLineStations.remove(stationId);
+        if (following != null) {
+            following.updatePreStationTo(lineStation.getPreStationId());
+            nextLineStations.put(lineStation.getPreStationId(), following);
+        }
 
         lineStations.remove(lineStation);
+        stationsInOrder = null;
     }
 }
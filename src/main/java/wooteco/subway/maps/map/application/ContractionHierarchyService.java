@@ -0,0 +1,63 @@
+package wooteco.subway.maps.map.application;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
+import wooteco.subway.maps.map.domain.PathEngine;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CH 엔진을 쓸 때 최신 노선도 스냅샷의 축약 계층을 백그라운드에서 만든다.
+ * 만드는 동안의 조회는 PathService 가 다익스트라로 처리한다.
+ */
+@Service
+public class ContractionHierarchyService {
+    private final SubwayNetworkService subwayNetworkService;
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    @Value("${subway.path.engine:COMPACT}")
+    private PathEngine engine = PathEngine.COMPACT;
+
+    public ContractionHierarchyService(SubwayNetworkService subwayNetworkService,
+                                       @Qualifier("contractionHierarchyExecutor") Executor executor) {
+        this.subwayNetworkService = subwayNetworkService;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        schedule();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(SubwayNetworkChangedEvent event) {
+        schedule();
+    }
+
+    private void schedule() {
+        // 이미 대기 중인 작업이 있으면 그 작업이 최신 스냅샷을 만든다
+        if (engine == PathEngine.CH && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::build);
+        }
+    }
+
+    void build() {
+        scheduled.set(false);
+        SubwayNetwork network;
+        do {
+            network = subwayNetworkService.getNetwork();
+            network.buildContractionHierarchies();
+        } while (network.getVersion() != subwayNetworkService.getVersion());
+    }
+}
@@ -0,0 +1,68 @@
+package wooteco.subway.maps.map.application;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 최신 노선도 스냅샷의 막차 표를 백그라운드에서 만든다.
+ * 표는 역 수의 제곱만큼 커지므로 enabled 로 켠 경우에만 만들고, 역이 maxStations 개를 넘어도 만들지 않는다.
+ * 표가 없으면 조회할 때 도착역 하나만 계산한다.
+ */
+@Service
+public class LastTrainTableService {
+    private final SubwayNetworkService subwayNetworkService;
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    @Value("${subway.path.last-train.enabled:false}")
+    private boolean enabled = false;
+    @Value("${subway.path.last-train.max-stations:3000}")
+    private int maxStations = 3000;
+
+    public LastTrainTableService(SubwayNetworkService subwayNetworkService,
+                                 @Qualifier("lastTrainTableExecutor") Executor executor) {
+        this.subwayNetworkService = subwayNetworkService;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        schedule();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(SubwayNetworkChangedEvent event) {
+        schedule();
+    }
+
+    private void schedule() {
+        // 이미 대기 중인 작업이 있으면 그 작업이 최신 스냅샷의 표를 만든다
+        if (enabled && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::build);
+        }
+    }
+
+    void build() {
+        scheduled.set(false);
+        SubwayNetwork network;
+        do {
+            network = subwayNetworkService.getNetwork();
+            if (network.getTimetable().getStationCount() > maxStations) {
+                return;
+            }
+            network.buildLastTrainTable();
+        } while (network.getVersion() != subwayNetworkService.getVersion());
+    }
+}
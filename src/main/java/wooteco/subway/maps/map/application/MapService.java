@@ -1,26 +1,37 @@
 package wooteco.subway.maps.map.application;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.maps.line.application.LineService;
 import wooteco.subway.maps.line.domain.Line;
 import wooteco.subway.maps.line.dto.LineResponse;
 import wooteco.subway.maps.line.dto.LineStationResponse;
-import wooteco.subway.maps.map.domain.LineStationEdge;
+import wooteco.subway.maps.map.domain.FareCalculator;
+import wooteco.subway.maps.map.domain.Journey;
+import wooteco.subway.maps.map.domain.KShortestPathFinder;
+import wooteco.subway.maps.map.domain.LastTrainTable;
 import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
 import wooteco.subway.maps.map.domain.SubwayPath;
+import wooteco.subway.maps.map.dto.JourneyResponse;
+import wooteco.subway.maps.map.dto.LastTrainResponse;
 import wooteco.subway.maps.map.dto.MapResponse;
 import wooteco.subway.maps.map.dto.PathResponse;
 import wooteco.subway.maps.map.dto.PathResponseAssembler;
+import wooteco.subway.maps.map.dto.ReachableStationResponse;
 import wooteco.subway.maps.station.application.StationService;
 import wooteco.subway.maps.station.domain.Station;
 import wooteco.subway.maps.station.dto.StationResponse;
 
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -28,13 +39,19 @@ public class MapService {
     private LineService lineService;
     private StationService stationService;
     private PathService pathService;
+    private SubwayNetworkService subwayNetworkService;
+    private PathResponseCache pathResponseCache;
 
-    public static final int DEFAULT_FARE = 1250;
+    public static final int DEFAULT_FARE = FareCalculator.DEFAULT_FARE;
+    public static final int MAX_ALTERNATIVE_COUNT = 5;
 
-    public MapService(LineService lineService, StationService stationService, PathService pathService) {
+    public MapService(LineService lineService, StationService stationService, PathService pathService,
+                      SubwayNetworkService subwayNetworkService, PathResponseCache pathResponseCache) {
         this.lineService = lineService;
         this.stationService = stationService;
         this.pathService = pathService;
+        this.subwayNetworkService = subwayNetworkService;
+        this.pathResponseCache = pathResponseCache;
     }
 
     public MapResponse findMap() {
@@ -48,16 +65,87 @@ public class MapService {
         return new MapResponse(lineResponses);
     }
 
+    // 캐시에 있는 응답은 트랜잭션을 열지 않고 돌려준다
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PathResponse findPath(Long source, Long target, PathType type) {
-        List<Line> lines = lineService.findLines();
-        SubwayPath subwayPath = pathService.findPath(lines, source, target, type);
-        Map<Long, Station> stations = stationService.findStationsByIds(subwayPath.extractStationId());
+        long version = subwayNetworkService.getVersion();
+        return pathResponseCache.get(version, source, target, type, () -> createPathResponse(source, target, type));
+    }
 
-        int fare = calculateFare(subwayPath.calculateDistance(), subwayPath.getLineStationEdges());
+    private PathResponse createPathResponse(Long source, Long target, PathType type) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayPath subwayPath = pathService.findPath(network, source, target, type);
+        List<Long> stationIds = new ArrayList<>(subwayPath.extractStationId());
+        stationIds.addAll(subwayPath.extractTransferStationIds());
+        Map<Long, Station> stations = stationService.findStationsByIds(stationIds);
+
+        int fare = network.getFareCalculator().calculateFare(subwayPath);
 
         return PathResponseAssembler.assemble(subwayPath, stations, fare);
     }
 
+    @Transactional(readOnly = true)
+    public List<PathResponse> findAlternativePaths(Long source, Long target, PathType type, int count) {
+        if (count < 1 || count > MAX_ALTERNATIVE_COUNT) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_ALTERNATIVE_COUNT + ": " + count);
+        }
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        List<SubwayPath> paths = new KShortestPathFinder(network.getCompactGraph(type)).findPaths(source, target, count);
+        return assemblePathResponses(network, paths);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PathResponse> findParetoPaths(Long source, Long target) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        return assemblePathResponses(network, pathService.findParetoPaths(network, source, target));
+    }
+
+    // 첫차 전이나 막차 뒤라 도착할 수 없으면 빈 값을 돌려준다
+    @Transactional(readOnly = true)
+    public Optional<JourneyResponse> findJourney(Long source, Long target, LocalTime departureTime) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        Optional<Journey> journey = network.getTimetable().findEarliestArrival(source, target, departureTime);
+        return journey.map(it -> {
+            PathResponse path = assemblePathResponses(network, Collections.singletonList(it.getPath())).get(0);
+            return new JourneyResponse(it.getDepartureTime(), it.getArrivalTime(), it.getElapsedMinutes(), path);
+        });
+    }
+
+    // 막차 표가 아직 없으면 도착역 하나만 계산한다. 역 정보는 조회하지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LastTrainResponse findLastTrain(Long source, Long target, LocalTime time) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        LastTrainTable table = network.findLastTrainTable()
+                .orElseGet(() -> LastTrainTable.of(network.getTimetable(), Collections.singletonList(target)));
+        return new LastTrainResponse(table.isReachable(source, target, time),
+                table.findLatestDeparture(source, target).orElse(null));
+    }
+
+    // 같은 스냅샷에서 찾은 경로들이므로 역 조회는 한 번만 한다
+    private List<PathResponse> assemblePathResponses(SubwayNetwork network, List<SubwayPath> paths) {
+        List<Long> stationIds = paths.stream()
+                .flatMap(it -> Stream.concat(it.extractStationId().stream(), it.extractTransferStationIds().stream()))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Station> stations = stationService.findStationsByIds(stationIds);
+
+        FareCalculator fareCalculator = network.getFareCalculator();
+        return paths.stream()
+                .map(it -> PathResponseAssembler.assemble(it, stations, fareCalculator.calculateFare(it)))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReachableStationResponse> findReachableStations(Long source, PathType type, int budget) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        Map<Long, Integer> costs = network.getCompactGraph(type).findReachable(source, budget);
+        Map<Long, Station> stations = stationService.findStationsByIds(new ArrayList<>(costs.keySet()));
+
+        return costs.entrySet().stream()
+                .map(it -> new ReachableStationResponse(StationResponse.of(stations.get(it.getKey())), it.getValue()))
+                .collect(Collectors.toList());
+    }
+
     private Map<Long, Station> findStations(List<Line> lines) {
         List<Long> stationIds = lines.stream()
                 .flatMap(it -> it.getStationInOrder().stream())
@@ -72,31 +160,4 @@ public class MapService {
                 .map(it -> LineStationResponse.of(line.getId(), it, StationResponse.of(stations.get(it.getStationId()))))
                 .collect(Collectors.toList());
     }
-
-    private int calculateFare(int distance, List<LineStationEdge> lineStationEdges) {
-        return DEFAULT_FARE + calculateFareByDistance(distance) + calculateFareByLine(lineStationEdges);
-    }
-
-    private int calculateFareByDistance(int distance) {
-        if (distance > 10) {
-            return calculateOverFareByDistance(distance - 10);
-        }
-        return 0;
-    }
-
-    private int calculateOverFareByDistance(int distance) {
-        if (distance > 40) {
-            return 800 + (int) ((Math.ceil((distance - 41) / 8) + 1) * 100);
-        }
-        return (int) ((Math.ceil((distance - 1) / 5) + 1) * 100);
-    }
-
-    private int calculateFareByLine(List<LineStationEdge> lineStationEdges) {
-        Set<Long> lineIds = lineStationEdges.stream().map(LineStationEdge::getLineId).collect(Collectors.toSet());
-        List<Line> lines = lineIds.stream().map(v -> lineService.findLineById(v)).collect(Collectors.toList());
-        return lines.stream()
-                .mapToInt(Line::getExtraFare)
-                .max()
-                .orElseThrow(NoSuchElementException::new);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package wooteco.subway.maps.map.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import wooteco.subway.maps.map.domain.FareCalculator;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.domain.SubwayPath;
+import wooteco.subway.maps.map.dto.PathRequest;
+import wooteco.subway.maps.map.dto.PathResponse;
+import wooteco.subway.maps.map.dto.PathResponseAssembler;
+import wooteco.subway.maps.station.application.StationService;
+import wooteco.subway.maps.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class PathBatchService {
+    private final SubwayNetworkService subwayNetworkService;
+    private final PathService pathService;
+    private final StationService stationService;
+    private final ForkJoinPool pathSearchPool;
+    @Value("${subway.path.batch.max-size:100}")
+    private int maxBatchSize = 100;
+
+    public PathBatchService(SubwayNetworkService subwayNetworkService, PathService pathService,
+                            StationService stationService, ForkJoinPool pathSearchPool) {
+        this.subwayNetworkService = subwayNetworkService;
+        this.pathService = pathService;
+        this.stationService = stationService;
+        this.pathSearchPool = pathSearchPool;
+    }
+
+    public List<PathResponse> findPaths(List<PathRequest> requests) {
+        validateRequests(requests);
+        // 모든 경로를 같은 노선도 스냅샷에서 찾는다
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        List<SubwayPath> subwayPaths = pathSearchPool.submit(() -> requests.parallelStream()
+                .map(it -> pathService.findPath(network, it.getSource(), it.getTarget(), it.getType()))
+                .collect(Collectors.toList()))
+                .join();
+
+        List<Long> stationIds = subwayPaths.stream()
+                .flatMap(it -> Stream.concat(it.extractStationId().stream(), it.extractTransferStationIds().stream()))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Station> stations = stationService.findStationsByIds(stationIds);
+
+        FareCalculator fareCalculator = network.getFareCalculator();
+        List<PathResponse> responses = new ArrayList<>();
+        for (SubwayPath subwayPath : subwayPaths) {
+            responses.add(PathResponseAssembler.assemble(subwayPath, stations, fareCalculator.calculateFare(subwayPath)));
+        }
+        return responses;
+    }
+
+    private void validateRequests(List<PathRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("batch size must be between 1 and " + maxBatchSize);
+        }
+        for (PathRequest request : requests) {
+            if (request == null || request.getSource() == null || request.getTarget() == null
+                    || request.getType() == null) {
+                throw new IllegalArgumentException("source, target and type are required");
+            }
+        }
+    }
+}
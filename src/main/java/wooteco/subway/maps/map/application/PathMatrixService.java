@@ -0,0 +1,106 @@
+package wooteco.subway.maps.map.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import wooteco.subway.maps.map.domain.CompactSubwayGraph;
+import wooteco.subway.maps.map.domain.FareCalculator;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.domain.SubwayPath;
+import wooteco.subway.maps.map.dto.PathMatrixCellResponse;
+import wooteco.subway.maps.map.dto.PathMatrixRequest;
+import wooteco.subway.maps.map.dto.PathMatrixRowResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+@Service
+public class PathMatrixService {
+    // 스레드마다 미리 계산해 둘 행의 수. 메모리에는 최대 (병렬도 x 이 값) 개의 행만 올라간다
+    private static final int ROWS_AHEAD_PER_THREAD = 2;
+
+    private final SubwayNetworkService subwayNetworkService;
+    private final ForkJoinPool pathSearchPool;
+    @Value("${subway.path.matrix.max-cells:10000}")
+    private long maxCells = 10000;
+
+    public PathMatrixService(SubwayNetworkService subwayNetworkService, ForkJoinPool pathSearchPool) {
+        this.subwayNetworkService = subwayNetworkService;
+        this.pathSearchPool = pathSearchPool;
+    }
+
+    /**
+     * 응답을 쓰기 시작하기 전에 스냅샷을 고르고 요청한 역이 모두 노선도에 있는지 확인한다.
+     * 출발역 수 x 도착역 수가 maxCells 를 넘으면 탐색하지 않고 거절한다.
+     */
+    public SubwayNetwork prepareNetwork(PathMatrixRequest request) {
+        validateSize(request);
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        CompactSubwayGraph graph = network.getCompactGraph(request.getType());
+        validateStations(graph, request.getSources());
+        validateStations(graph, request.getTargets());
+        return network;
+    }
+
+    private void validateSize(PathMatrixRequest request) {
+        if (request.getType() == null || request.getSources() == null || request.getTargets() == null) {
+            throw new IllegalArgumentException("sources, targets and type are required");
+        }
+        long cells = (long) request.getSources().size() * request.getTargets().size();
+        if (cells == 0 || cells > maxCells) {
+            throw new IllegalArgumentException("matrix size must be between 1 and " + maxCells);
+        }
+    }
+
+    private void validateStations(CompactSubwayGraph graph, List<Long> stationIds) {
+        for (Long stationId : stationIds) {
+            if (!graph.containsStation(stationId)) {
+                throw new IllegalArgumentException("no such station: " + stationId);
+            }
+        }
+    }
+
+    /**
+     * 출발역마다 한 번씩 탐색한 결과를 출발역 순서대로 rowConsumer 에 넘긴다.
+     * 탐색은 pathSearchPool 에서 병렬로 진행되지만 앞서 계산하는 행의 수를 제한하여 전체 행렬을 메모리에 쌓지 않는다.
+     */
+    public void writeRows(SubwayNetwork network, PathMatrixRequest request, Consumer<PathMatrixRowResponse> rowConsumer) {
+        CompactSubwayGraph graph = network.getCompactGraph(request.getType());
+        FareCalculator fareCalculator = network.getFareCalculator();
+        int rowsAhead = pathSearchPool.getParallelism() * ROWS_AHEAD_PER_THREAD;
+
+        Deque<ForkJoinTask<PathMatrixRowResponse>> rows = new ArrayDeque<>();
+        Iterator<Long> sources = request.getSources().iterator();
+        try {
+            while (sources.hasNext() || !rows.isEmpty()) {
+                while (sources.hasNext() && rows.size() < rowsAhead) {
+                    Long source = sources.next();
+                    rows.add(pathSearchPool.submit(() -> createRow(graph, fareCalculator, source, request.getTargets())));
+                }
+                rowConsumer.accept(rows.poll().join());
+            }
+        } finally {
+            // 클라이언트 연결이 끊기는 등 중간에 실패하면 남은 탐색을 취소한다
+            rows.forEach(it -> it.cancel(false));
+        }
+    }
+
+    private PathMatrixRowResponse createRow(CompactSubwayGraph graph, FareCalculator fareCalculator, Long source,
+                                            List<Long> targets) {
+        Map<Long, SubwayPath> paths = graph.findPaths(source, targets);
+        List<PathMatrixCellResponse> cells = new ArrayList<>();
+        for (Long target : targets) {
+            SubwayPath subwayPath = paths.get(target);
+            if (subwayPath != null) {
+                cells.add(PathMatrixCellResponse.of(target, subwayPath, fareCalculator.calculateFare(subwayPath)));
+            }
+        }
+        return new PathMatrixRowResponse(source, cells);
+    }
+}
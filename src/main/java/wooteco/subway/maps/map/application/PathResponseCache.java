@@ -0,0 +1,76 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.dto.PathResponse;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 조회한 경로 응답을 (출발역, 도착역, 조회 기준, 노선도 버전) 으로 보관하는 크기 제한 캐시.
+ * 노선도 버전이 키에 포함되므로 노선이 바뀐 뒤에는 이전 응답이 조회되지 않고, 남은 응답은 크기 제한에 따라 밀려난다.
+ */
+public class PathResponseCache {
+    private final Cache<PathKey, PathResponse> cache;
+
+    public PathResponseCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public PathResponse get(long version, Long source, Long target, PathType type, Supplier<PathResponse> loader) {
+        try {
+            return cache.get(new PathKey(version, source, target, type), loader::get);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public Cache<?, ?> getCache() {
+        return cache;
+    }
+
+    private static class PathKey {
+        private final long version;
+        private final Long source;
+        private final Long target;
+        private final PathType type;
+
+        private PathKey(long version, Long source, Long target, PathType type) {
+            this.version = version;
+            this.source = source;
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PathKey pathKey = (PathKey) o;
+            return version == pathKey.version &&
+                    Objects.equals(source, pathKey.source) &&
+                    Objects.equals(target, pathKey.target) &&
+                    type == pathKey.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, source, target, type);
+        }
+    }
+}
@@ -2,23 +2,68 @@ package wooteco.subway.maps.map.application;
 
 import wooteco.subway.maps.line.domain.Line;
 import wooteco.subway.maps.map.domain.LineStationEdge;
+import wooteco.subway.maps.map.domain.ParetoPathFinder;
+import wooteco.subway.maps.map.domain.PathEngine;
 import wooteco.subway.maps.map.domain.PathType;
 import wooteco.subway.maps.map.domain.SubwayGraph;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
 import wooteco.subway.maps.map.domain.SubwayPath;
+import wooteco.subway.maps.map.domain.TransferSubwayGraph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class PathService {
+    @Value("${subway.path.engine:COMPACT}")
+    private PathEngine engine = PathEngine.COMPACT;
+    @Value("${subway.path.pareto.label-limit:20000}")
+    private int paretoLabelLimit = 20000;
+
+    public SubwayPath findPath(SubwayNetwork network, Long source, Long target, PathType type) {
+        // 환승 비용을 설정했다면 엔진과 관계없이 (역, 노선) 그래프에서 찾는다
+        Optional<TransferSubwayGraph> transferGraph = network.findTransferGraph(type);
+        if (transferGraph.isPresent()) {
+            return transferGraph.get().findPath(source, target);
+        }
+        switch (engine) {
+            case JGRAPHT:
+                return network.getCompactGraph(type).preferSameLine(findPath(network.getGraph(type), source, target));
+            case BIDIRECTIONAL:
+                return network.getCompactGraph(type).findPathBidirectional(source, target);
+            case ALT:
+                return network.getCompactGraph(type).findPathWithLandmarks(source, target);
+            case CH:
+                // 축약 계층이 아직 준비되지 않았으면 다익스트라로 찾는다
+                return network.findContractionHierarchy(type)
+                        .map(it -> it.findPath(source, target))
+                        .orElseGet(() -> network.getCompactGraph(type).findPath(source, target));
+            default:
+                return network.getCompactGraph(type).findPath(source, target);
+        }
+    }
+
+    // 구간마다 거리와 시간을 모두 읽으므로 어느 기준의 그래프로 찾아도 결과는 같다
+    public List<SubwayPath> findParetoPaths(SubwayNetwork network, Long source, Long target) {
+        ParetoPathFinder finder = new ParetoPathFinder(network.getCompactGraph(PathType.DURATION),
+                network.getFareCalculator(), paretoLabelLimit);
+        return finder.findPaths(source, target);
+    }
+
     public SubwayPath findPath(List<Line> lines, Long source, Long target, PathType type) {
         SubwayGraph graph = new SubwayGraph(LineStationEdge.class);
         graph.addVertexWith(lines);
         graph.addEdge(lines, type);
 
+        return findPath(graph, source, target);
+    }
+
+    public SubwayPath findPath(SubwayGraph graph, Long source, Long target) {
         // 다익스트라 최단 경로 찾기
         DijkstraShortestPath dijkstraShortestPath = new DijkstraShortestPath(graph);
         GraphPath<Long, LineStationEdge> path = dijkstraShortestPath.getPath(source, target);
@@ -27,6 +72,7 @@ public class PathService {
     }
 
     private SubwayPath convertSubwayPath(GraphPath graphPath) {
-        return new SubwayPath((List<LineStationEdge>) graphPath.getEdgeList().stream().collect(Collectors.toList()));
+        return new SubwayPath((List<LineStationEdge>) graphPath.getEdgeList().stream().collect(Collectors.toList()),
+                (Long) graphPath.getStartVertex());
     }
 }
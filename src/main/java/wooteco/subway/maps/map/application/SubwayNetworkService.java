@@ -0,0 +1,103 @@
+package wooteco.subway.maps.map.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
+import wooteco.subway.maps.line.application.LineService;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class SubwayNetworkService {
+    private final LineService lineService;
+    private final AtomicLong version = new AtomicLong();
+    // 다음 스냅샷에 반영할, 구간만 바뀐 노선들. 노선 자체나 역이 바뀌면 전체를 다시 만든다
+    private final Set<Long> changedLineIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullRebuildRequired = new AtomicBoolean();
+    private volatile SubwayNetwork network;
+
+    @Value("${subway.path.transfer-penalty:0}")
+    private int transferPenalty;
+
+    public SubwayNetworkService(LineService lineService) {
+        this.lineService = lineService;
+    }
+
+    @Transactional(readOnly = true)
+    public SubwayNetwork getNetwork() {
+        SubwayNetwork current = network;
+        if (current != null && current.getVersion() == version.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // 새 스냅샷을 기다리는 다른 리스너보다 먼저 버전을 올린다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(SubwayNetworkChangedEvent event) {
+        // 변경 내용을 먼저 기록해야 올라간 버전을 본 재빌드가 이를 놓치지 않는다
+        if (event.getLineId() == null) {
+            fullRebuildRequired.set(true);
+        } else {
+            changedLineIds.add(event.getLineId());
+        }
+        version.incrementAndGet();
+    }
+
+    private synchronized SubwayNetwork rebuild() {
+        // 빌드 도중 버전이 바뀌면 다음 조회에서 다시 만든다
+        long currentVersion = version.get();
+        if (network != null && network.getVersion() == currentVersion) {
+            return network;
+        }
+        List<Long> lineIds = drainChangedLineIds();
+        boolean fullRebuild = fullRebuildRequired.getAndSet(false) || network == null;
+        try {
+            // 새 스냅샷을 다 만든 뒤에 한 번에 바꿔 끼우므로, 읽는 쪽은 반쯤 바뀐 그래프를 보지 않는다
+            if (fullRebuild) {
+                network = SubwayNetwork.of(currentVersion, lineService.findLines(), transferPenalty);
+            } else {
+                List<Line> changedLines = lineIds.isEmpty()
+                        ? Collections.emptyList()
+                        : lineService.findLinesWithLineStations(lineIds);
+                network = network.withLines(currentVersion, lineIds, changedLines);
+            }
+        } catch (RuntimeException e) {
+            // 반영하지 못한 변경은 되돌려 두어 다음 조회의 재빌드에서 다시 반영한다
+            changedLineIds.addAll(lineIds);
+            if (fullRebuild) {
+                fullRebuildRequired.set(true);
+            }
+            throw e;
+        }
+        return network;
+    }
+
+    private List<Long> drainChangedLineIds() {
+        List<Long> lineIds = new ArrayList<>();
+        Iterator<Long> iterator = changedLineIds.iterator();
+        while (iterator.hasNext()) {
+            lineIds.add(iterator.next());
+            iterator.remove();
+        }
+        return lineIds;
+    }
+}
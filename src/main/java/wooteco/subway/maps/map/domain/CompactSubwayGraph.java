@@ -0,0 +1,644 @@
+package wooteco.subway.maps.map.domain;
+
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 역 아이디를 0부터 시작하는 정수 인덱스로 바꾸고, 간선을 CSR 배열에 담은 경로 탐색용 그래프.
+ * 양방향 구간 하나는 두 개의 arc 로 저장되며, arc 는 원래의 {@link LineStationEdge} 를 가리킨다.
+ */
+public class CompactSubwayGraph {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+    private static final int NONE = -1;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final long[] stationIds;
+    private final Map<Long, Integer> stationIndexes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] lineIdx;
+    private final int[] edgeIdx;
+    private final long[] lineIds;
+    private final int[] lineExtraFares;
+    private final LineStationEdge[] edges;
+    private final int landmarkCount;
+    // 랜드마크 표는 랜드마크마다 다익스트라를 한 번씩 돌려야 하므로 ALT 탐색을 처음 할 때 만든다
+    private volatile int[][] landmarkDistances;
+
+    private CompactSubwayGraph(long[] stationIds, Map<Long, Integer> stationIndexes, int[] offsets, int[] targets,
+                               int[] weights, int[] lineIdx, int[] edgeIdx, long[] lineIds, int[] lineExtraFares,
+                               LineStationEdge[] edges, int landmarkCount) {
+        this.stationIds = stationIds;
+        this.stationIndexes = stationIndexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.lineIdx = lineIdx;
+        this.edgeIdx = edgeIdx;
+        this.lineIds = lineIds;
+        this.lineExtraFares = lineExtraFares;
+        this.edges = edges;
+        this.landmarkCount = landmarkCount;
+    }
+
+    public static CompactSubwayGraph of(List<Line> lines, PathType type) {
+        return of(lines, type, DEFAULT_LANDMARK_COUNT);
+    }
+
+    public static CompactSubwayGraph of(List<Line> lines, PathType type, int landmarkCount) {
+        Map<Long, Integer> stationIndexes = new HashMap<>();
+        List<Long> stationIds = new ArrayList<>();
+        for (Line line : lines) {
+            for (LineStation lineStation : line.getStationInOrder()) {
+                if (!stationIndexes.containsKey(lineStation.getStationId())) {
+                    stationIndexes.put(lineStation.getStationId(), stationIds.size());
+                    stationIds.add(lineStation.getStationId());
+                }
+            }
+        }
+
+        List<LineStationEdge> edges = new ArrayList<>();
+        List<Integer> edgeLines = new ArrayList<>();
+        long[] lineIds = new long[lines.size()];
+        int[] lineExtraFares = new int[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            lineIds[i] = line.getId();
+            lineExtraFares[i] = line.getExtraFare();
+            for (LineStation lineStation : line.getStationInOrder()) {
+                if (lineStation.getPreStationId() != null) {
+                    edges.add(new LineStationEdge(lineStation, line.getId()));
+                    edgeLines.add(i);
+                }
+            }
+        }
+
+        return build(stationIds, stationIndexes, edges, edgeLines, lineIds, lineExtraFares, type, landmarkCount);
+    }
+
+    /**
+     * lineIds 노선의 구간을 빼고 lines 의 구간을 더한 새 그래프를 만든다. 이 그래프는 바꾸지 않는다.
+     * 다른 노선의 구간과 역 인덱스는 그대로 옮기므로 노선 전체를 다시 읽지 않는다.
+     * 더 이상 어느 노선에도 없는 역은 구간 없는 역으로 남는다.
+     */
+    public CompactSubwayGraph withLines(Collection<Long> lineIds, List<Line> lines, PathType type) {
+        Set<Long> changedLineIds = new HashSet<>(lineIds);
+        Map<Long, Integer> stationIndexes = new HashMap<>(this.stationIndexes);
+        List<Long> stationIds = new ArrayList<>();
+        for (long stationId : this.stationIds) {
+            stationIds.add(stationId);
+        }
+        List<Long> allLineIds = new ArrayList<>();
+        List<Integer> allExtraFares = new ArrayList<>();
+        Map<Long, Integer> lineIndexes = new HashMap<>();
+        for (int i = 0; i < this.lineIds.length; i++) {
+            lineIndexes.put(this.lineIds[i], allLineIds.size());
+            allLineIds.add(this.lineIds[i]);
+            allExtraFares.add(lineExtraFares[i]);
+        }
+
+        List<LineStationEdge> edges = new ArrayList<>();
+        List<Integer> edgeLines = new ArrayList<>();
+        for (LineStationEdge edge : this.edges) {
+            if (!changedLineIds.contains(edge.getLineId())) {
+                edges.add(edge);
+                edgeLines.add(lineIndexes.get(edge.getLineId()));
+            }
+        }
+        for (Line line : lines) {
+            int lineIndex = lineIndexes.computeIfAbsent(line.getId(), it -> {
+                allLineIds.add(it);
+                allExtraFares.add(0);
+                return allLineIds.size() - 1;
+            });
+            allExtraFares.set(lineIndex, line.getExtraFare());
+            for (LineStation lineStation : line.getStationInOrder()) {
+                if (!stationIndexes.containsKey(lineStation.getStationId())) {
+                    stationIndexes.put(lineStation.getStationId(), stationIds.size());
+                    stationIds.add(lineStation.getStationId());
+                }
+                if (lineStation.getPreStationId() != null) {
+                    edges.add(new LineStationEdge(lineStation, line.getId()));
+                    edgeLines.add(lineIndex);
+                }
+            }
+        }
+
+        return build(stationIds, stationIndexes, edges, edgeLines,
+                allLineIds.stream().mapToLong(Long::longValue).toArray(),
+                allExtraFares.stream().mapToInt(Integer::intValue).toArray(), type, landmarkCount);
+    }
+
+    private static CompactSubwayGraph build(List<Long> stationIds, Map<Long, Integer> stationIndexes,
+                                            List<LineStationEdge> edges, List<Integer> edgeLines, long[] lineIds,
+                                            int[] lineExtraFares, PathType type, int landmarkCount) {
+        int stationCount = stationIds.size();
+        int[] offsets = new int[stationCount + 1];
+        for (LineStationEdge edge : edges) {
+            offsets[indexOf(stationIndexes, edge.getLineStation().getPreStationId()) + 1]++;
+            offsets[indexOf(stationIndexes, edge.getLineStation().getStationId()) + 1]++;
+        }
+        for (int i = 0; i < stationCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int arcCount = edges.size() * 2;
+        int[] targets = new int[arcCount];
+        int[] weights = new int[arcCount];
+        int[] lineIdx = new int[arcCount];
+        int[] edgeIdx = new int[arcCount];
+        int[] cursor = Arrays.copyOf(offsets, stationCount);
+        for (int e = 0; e < edges.size(); e++) {
+            LineStation lineStation = edges.get(e).getLineStation();
+            int from = stationIndexes.get(lineStation.getPreStationId());
+            int to = stationIndexes.get(lineStation.getStationId());
+            int weight = type.findWeightOf(lineStation);
+
+            int forward = cursor[from]++;
+            targets[forward] = to;
+            weights[forward] = weight;
+            lineIdx[forward] = edgeLines.get(e);
+            edgeIdx[forward] = e;
+
+            int backward = cursor[to]++;
+            targets[backward] = from;
+            weights[backward] = weight;
+            lineIdx[backward] = edgeLines.get(e);
+            edgeIdx[backward] = e;
+        }
+
+        return new CompactSubwayGraph(stationIds.stream().mapToLong(Long::longValue).toArray(), stationIndexes,
+                offsets, targets, weights, lineIdx, edgeIdx, lineIds, lineExtraFares, edges.toArray(new LineStationEdge[0]),
+                landmarkCount);
+    }
+
+    private static int indexOf(Map<Long, Integer> stationIndexes, Long stationId) {
+        Integer index = stationIndexes.get(stationId);
+        if (index == null) {
+            throw new IllegalArgumentException("no such station: " + stationId);
+        }
+        return index;
+    }
+
+    private int[][] landmarkTables() {
+        int[][] tables = landmarkDistances;
+        if (tables == null) {
+            synchronized (this) {
+                tables = landmarkDistances;
+                if (tables == null) {
+                    tables = selectLandmarks(landmarkCount);
+                    landmarkDistances = tables;
+                }
+            }
+        }
+        return tables;
+    }
+
+    boolean hasLandmarkTables() {
+        return landmarkDistances != null;
+    }
+
+    /**
+     * 이미 고른 랜드마크들과의 최단 비용이 가장 큰 역을 다음 랜드마크로 고르고(farthest point),
+     * 랜드마크마다 모든 역까지의 최단 비용을 표로 저장한다. 다른 연결 요소의 역은 UNREACHABLE 이다.
+     */
+    private int[][] selectLandmarks(int landmarkCount) {
+        int stationCount = stationIds.length;
+        int[][] tables = new int[Math.min(landmarkCount, stationCount)][];
+        if (tables.length == 0) {
+            return tables;
+        }
+
+        DijkstraWorkspace workspace = new DijkstraWorkspace(stationCount, targets.length);
+        int[] nearest = distancesFrom(0, workspace);
+        for (int i = 0; i < tables.length; i++) {
+            int landmark = 0;
+            for (int node = 1; node < stationCount; node++) {
+                if (nearest[node] > nearest[landmark]) {
+                    landmark = node;
+                }
+            }
+            tables[i] = distancesFrom(landmark, workspace);
+            for (int node = 0; node < stationCount; node++) {
+                nearest[node] = i == 0 ? tables[i][node] : Math.min(nearest[node], tables[i][node]);
+            }
+        }
+        return tables;
+    }
+
+    private int[] distancesFrom(int from, DijkstraWorkspace workspace) {
+        int[] distances = new int[stationIds.length];
+        Arrays.fill(distances, UNREACHABLE);
+        workspace.reset();
+        workspace.relax(from, 0, NONE, NONE);
+        while (!workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            if (!workspace.isCurrent(node, distance)) {
+                continue;
+            }
+            distances[node] = distance;
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                workspace.relax(targets[arc], distance + weights[arc], node, arc);
+            }
+        }
+        return distances;
+    }
+
+    public SubwayPath findPath(Long source, Long target) {
+        int from = indexOf(stationIndexes, source);
+        int to = indexOf(stationIndexes, target);
+
+        DijkstraWorkspace workspace = DijkstraWorkspace.forward(stationIds.length, targets.length);
+        workspace.reset();
+        workspace.relax(from, 0, NONE, NONE);
+        while (!workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            if (!workspace.isCurrent(node, distance)) {
+                continue;
+            }
+            if (node == to) {
+                return toSubwayPath(workspace, to);
+            }
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                workspace.relax(targets[arc], distance + weights[arc], node, arc);
+            }
+        }
+        throw new IllegalArgumentException("no path between " + source + " and " + target);
+    }
+
+    /**
+     * 랜드마크 표와 삼각 부등식으로 구한 하한값을 휴리스틱으로 쓰는 A* 탐색(ALT).
+     * 구간이 양방향이므로 |d(L, target) - d(L, node)| 는 node 에서 target 까지 비용의 하한이고,
+     * 이 휴리스틱은 일관적(consistent)이어서 도착역을 꺼내는 순간의 경로가 최단 경로이다.
+     */
+    public SubwayPath findPathWithLandmarks(Long source, Long target) {
+        int from = indexOf(stationIndexes, source);
+        int to = indexOf(stationIndexes, target);
+        int[][] landmarkDistances = landmarkTables();
+        int[] landmarkToTarget = new int[landmarkDistances.length];
+        for (int i = 0; i < landmarkDistances.length; i++) {
+            landmarkToTarget[i] = landmarkDistances[i][to];
+        }
+
+        DijkstraWorkspace workspace = DijkstraWorkspace.forward(stationIds.length, targets.length);
+        workspace.reset();
+        workspace.relax(from, 0, lowerBound(landmarkDistances, from, landmarkToTarget), NONE, NONE);
+        while (!workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            if (!workspace.isCurrent(node, (int) (entry >>> 32))) {
+                continue;
+            }
+            if (node == to) {
+                return toSubwayPath(workspace, to);
+            }
+            int distance = workspace.distances[node];
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                int next = targets[arc];
+                int nextDistance = distance + weights[arc];
+                if (workspace.isImprovedBy(next, nextDistance)) {
+                    workspace.relax(next, nextDistance, nextDistance + lowerBound(landmarkDistances, next, landmarkToTarget), node, arc);
+                }
+            }
+        }
+        throw new IllegalArgumentException("no path between " + source + " and " + target);
+    }
+
+    private int lowerBound(int[][] landmarkDistances, int node, int[] landmarkToTarget) {
+        int bound = 0;
+        for (int i = 0; i < landmarkToTarget.length; i++) {
+            int fromLandmark = landmarkDistances[i][node];
+            if (fromLandmark != UNREACHABLE && landmarkToTarget[i] != UNREACHABLE) {
+                bound = Math.max(bound, Math.abs(landmarkToTarget[i] - fromLandmark));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * 출발역과 도착역 양쪽에서 동시에 다익스트라 탐색을 진행한다.
+     * 구간은 양방향이므로 도착역 쪽 탐색도 같은 arc 를 그대로 사용한다.
+     * 두 탐색이 만난 역을 거치는 가장 짧은 경로의 비용을 best 로 기억하고,
+     * 양쪽 큐의 최솟값의 합이 best 이상이 되면 더 짧은 경로가 없으므로 멈춘다.
+     */
+    public SubwayPath findPathBidirectional(Long source, Long target) {
+        int from = indexOf(stationIndexes, source);
+        int to = indexOf(stationIndexes, target);
+        if (from == to) {
+            return new SubwayPath(new ArrayList<>(), source);
+        }
+
+        DijkstraWorkspace forward = DijkstraWorkspace.forward(stationIds.length, targets.length);
+        DijkstraWorkspace backward = DijkstraWorkspace.backward(stationIds.length, targets.length);
+        forward.reset();
+        backward.reset();
+        forward.relax(from, 0, NONE, NONE);
+        backward.relax(to, 0, NONE, NONE);
+
+        long best = Long.MAX_VALUE;
+        int meeting = NONE;
+        while (forward.discardStale() && backward.discardStale()) {
+            long forwardTop = forward.peek() >>> 32;
+            long backwardTop = backward.peek() >>> 32;
+            if (forwardTop + backwardTop >= best) {
+                break;
+            }
+
+            boolean isForward = forwardTop <= backwardTop;
+            DijkstraWorkspace current = isForward ? forward : backward;
+            DijkstraWorkspace opposite = isForward ? backward : forward;
+            long entry = current.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                int next = targets[arc];
+                if (current.relax(next, distance + weights[arc], node, arc) && opposite.isReached(next)) {
+                    long candidate = (long) current.distances[next] + opposite.distances[next];
+                    if (candidate < best) {
+                        best = candidate;
+                        meeting = next;
+                    }
+                }
+            }
+        }
+
+        if (meeting == NONE) {
+            throw new IllegalArgumentException("no path between " + source + " and " + target);
+        }
+        return toSubwayPath(forward, backward, meeting);
+    }
+
+    /**
+     * 출발역 하나에서 한 번만 탐색하여 여러 도착역까지의 최단 경로를 구한다.
+     * 모든 도착역이 확정되면 탐색을 멈추고, 도달할 수 없는 도착역은 결과에 담지 않는다.
+     */
+    public Map<Long, SubwayPath> findPaths(Long source, Collection<Long> targetIds) {
+        int from = indexOf(stationIndexes, source);
+        boolean[] wanted = new boolean[stationIds.length];
+        int remaining = 0;
+        for (Long target : targetIds) {
+            int to = indexOf(stationIndexes, target);
+            if (!wanted[to]) {
+                wanted[to] = true;
+                remaining++;
+            }
+        }
+
+        Map<Long, SubwayPath> paths = new LinkedHashMap<>();
+        DijkstraWorkspace workspace = DijkstraWorkspace.forward(stationIds.length, targets.length);
+        workspace.reset();
+        workspace.relax(from, 0, NONE, NONE);
+        while (remaining > 0 && !workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            if (!workspace.isCurrent(node, distance)) {
+                continue;
+            }
+            if (wanted[node]) {
+                paths.put(stationIds[node], toSubwayPath(workspace, node));
+                remaining--;
+            }
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                workspace.relax(targets[arc], distance + weights[arc], node, arc);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * 출발역에서 비용이 budget 이하인 모든 역과 그 비용을 가까운 순서대로 돌려준다.
+     * budget 을 넘는 역은 큐에 넣지 않으므로 예산 밖으로는 탐색을 넓히지 않는다.
+     */
+    public Map<Long, Integer> findReachable(Long source, int budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("budget must not be negative: " + budget);
+        }
+        int from = indexOf(stationIndexes, source);
+
+        Map<Long, Integer> reachable = new LinkedHashMap<>();
+        DijkstraWorkspace workspace = DijkstraWorkspace.forward(stationIds.length, targets.length);
+        workspace.reset();
+        workspace.relax(from, 0, NONE, NONE);
+        while (!workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            if (!workspace.isCurrent(node, distance)) {
+                continue;
+            }
+            reachable.put(stationIds[node], distance);
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                // budget 이 Integer.MAX_VALUE 에 가까우면 int 로 더할 때 넘칠 수 있다
+                long next = (long) distance + weights[arc];
+                if (next <= budget) {
+                    workspace.relax(targets[arc], (int) next, node, arc);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    private SubwayPath toSubwayPath(DijkstraWorkspace workspace, int target) {
+        List<LineStationEdge> path = new ArrayList<>();
+        int node = target;
+        for (; workspace.prevArcs[node] != NONE; node = workspace.prevNodes[node]) {
+            path.add(edges[edgeIdx[workspace.prevArcs[node]]]);
+        }
+        Collections.reverse(path);
+        return preferSameLine(new SubwayPath(path, stationIds[node]));
+    }
+
+    public boolean containsStation(Long stationId) {
+        return stationIndexes.containsKey(stationId);
+    }
+
+    private SubwayPath toSubwayPath(DijkstraWorkspace forward, DijkstraWorkspace backward, int meeting) {
+        List<LineStationEdge> path = new ArrayList<>();
+        int source = meeting;
+        for (; forward.prevArcs[source] != NONE; source = forward.prevNodes[source]) {
+            path.add(edges[edgeIdx[forward.prevArcs[source]]]);
+        }
+        Collections.reverse(path);
+        for (int node = meeting; backward.prevArcs[node] != NONE; node = backward.prevNodes[node]) {
+            path.add(edges[edgeIdx[backward.prevArcs[node]]]);
+        }
+        return preferSameLine(new SubwayPath(path, stationIds[source]));
+    }
+
+    /**
+     * 같은 두 역을 같은 거리와 시간으로 잇는 구간이 여러 노선에 있으면 환승이 가장 적도록 노선을 고른다.
+     * 추가 요금이 원래 노선보다 비싼 노선으로는 바꾸지 않고, 환승 횟수가 같으면 원래 구간을 그대로 둔다.
+     * 따라서 경로의 거리, 시간, 요금과 지나는 역은 바뀌지 않는다.
+     */
+    public SubwayPath preferSameLine(SubwayPath subwayPath) {
+        List<LineStationEdge> path = subwayPath.getLineStationEdges();
+        List<Long> pathStationIds = subwayPath.extractStationId();
+        int[][] candidates = new int[path.size()][];
+        boolean parallel = false;
+        for (int i = 0; i < path.size(); i++) {
+            candidates[i] = findParallelArcs(pathStationIds.get(i), pathStationIds.get(i + 1), path.get(i));
+            if (candidates[i].length == 0) {
+                return subwayPath;
+            }
+            parallel |= candidates[i].length > 1;
+        }
+        if (!parallel) {
+            return subwayPath;
+        }
+
+        // transfers[i][c] 는 i 번째 구간을 candidates[i][c] 로 지날 때까지의 최소 환승 횟수이다
+        int[][] transfers = new int[path.size()][];
+        int[][] previous = new int[path.size()][];
+        transfers[0] = new int[candidates[0].length];
+        for (int i = 1; i < path.size(); i++) {
+            transfers[i] = new int[candidates[i].length];
+            previous[i] = new int[candidates[i].length];
+            for (int c = 0; c < candidates[i].length; c++) {
+                transfers[i][c] = Integer.MAX_VALUE;
+                for (int p = 0; p < candidates[i - 1].length; p++) {
+                    int count = transfers[i - 1][p] + (lineIdx[candidates[i - 1][p]] == lineIdx[candidates[i][c]] ? 0 : 1);
+                    if (count < transfers[i][c]) {
+                        transfers[i][c] = count;
+                        previous[i][c] = p;
+                    }
+                }
+            }
+        }
+
+        int last = path.size() - 1;
+        int choice = 0;
+        for (int c = 1; c < candidates[last].length; c++) {
+            if (transfers[last][c] < transfers[last][choice]) {
+                choice = c;
+            }
+        }
+        List<LineStationEdge> aligned = new ArrayList<>(path);
+        for (int i = last; i >= 0; i--) {
+            aligned.set(i, edges[edgeIdx[candidates[i][choice]]]);
+            if (i > 0) {
+                choice = previous[i][choice];
+            }
+        }
+        return new SubwayPath(aligned, pathStationIds.get(0));
+    }
+
+    // 원래 구간의 arc 를 맨 앞에 두고, 대신 지나도 거리, 시간, 요금이 바뀌지 않는 다른 노선의 arc 를 노선마다 하나씩 뒤에 둔다
+    private int[] findParallelArcs(Long source, Long target, LineStationEdge edge) {
+        Integer from = stationIndexes.get(source);
+        Integer to = stationIndexes.get(target);
+        if (from == null || to == null) {
+            return new int[0];
+        }
+        int original = NONE;
+        for (int arc = offsets[from]; arc < offsets[from + 1]; arc++) {
+            if (targets[arc] == to && lineIds[lineIdx[arc]] == edge.getLineId()
+                    && (original == NONE || weights[arc] < weights[original])) {
+                original = arc;
+            }
+        }
+        if (original == NONE) {
+            return new int[0];
+        }
+
+        int[] arcs = new int[offsets[from + 1] - offsets[from]];
+        int count = 0;
+        arcs[count++] = original;
+        for (int arc = offsets[from]; arc < offsets[from + 1]; arc++) {
+            if (targets[arc] == to && isReplaceableBy(original, arc) && !containsLine(arcs, count, lineIdx[arc])) {
+                arcs[count++] = arc;
+            }
+        }
+        return Arrays.copyOf(arcs, count);
+    }
+
+    // 조회 기준의 비용뿐 아니라 거리와 시간이 모두 같고, 추가 요금이 원래 노선보다 비싸지 않아야 한다
+    private boolean isReplaceableBy(int original, int arc) {
+        LineStation originalStation = edges[edgeIdx[original]].getLineStation();
+        LineStation lineStation = edges[edgeIdx[arc]].getLineStation();
+        return originalStation.getDistance().equals(lineStation.getDistance())
+                && originalStation.getDuration().equals(lineStation.getDuration())
+                && lineExtraFares[lineIdx[arc]] <= lineExtraFares[lineIdx[original]];
+    }
+
+    private boolean containsLine(int[] arcs, int count, int line) {
+        for (int i = 0; i < count; i++) {
+            if (lineIdx[arcs[i]] == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getLandmarkCount() {
+        return Math.min(landmarkCount, stationIds.length);
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    public int getArcCount() {
+        return targets.length;
+    }
+
+    public Long getLineIdOf(int arc) {
+        return lineIds[lineIdx[arc]];
+    }
+
+    int stationIndexOf(Long stationId) {
+        return indexOf(stationIndexes, stationId);
+    }
+
+    Long stationIdOf(int node) {
+        return stationIds[node];
+    }
+
+    int firstArcOf(int node) {
+        return offsets[node];
+    }
+
+    int lastArcOf(int node) {
+        return offsets[node + 1];
+    }
+
+    int targetOf(int arc) {
+        return targets[arc];
+    }
+
+    int weightOf(int arc) {
+        return weights[arc];
+    }
+
+    LineStationEdge edgeOf(int arc) {
+        return edges[edgeIdx[arc]];
+    }
+
+    int lineIndexOf(int arc) {
+        return lineIdx[arc];
+    }
+
+    int edgeIndexOf(int arc) {
+        return edgeIdx[arc];
+    }
+
+    int getEdgeCount() {
+        return edges.length;
+    }
+}
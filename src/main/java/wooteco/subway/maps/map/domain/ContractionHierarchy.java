@@ -0,0 +1,347 @@
+package wooteco.subway.maps.map.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * {@link CompactSubwayGraph} 를 축약(contraction)하여 만든 경로 탐색용 계층 그래프.
+ * 중요도가 낮은 역부터 하나씩 없애면서, 그 역을 지나야만 하는 최단 경로는 지름길(shortcut) 간선으로 남긴다.
+ * 조회는 출발역과 도착역 양쪽에서 순위가 높은 역으로만 올라가는 양방향 다익스트라이고,
+ * 지름길은 축약한 역 양쪽의 두 간선을 기억하므로 원래의 {@link LineStationEdge} 목록으로 되돌릴 수 있다.
+ */
+public class ContractionHierarchy {
+    private static final int NONE = -1;
+    // 지름길이 필요한지 확인하는 증인(witness) 탐색에서 확정할 최대 역 수. 넘으면 지름길을 그냥 추가한다
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+
+    private final CompactSubwayGraph graph;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upArcs;
+    private final LineStationEdge[] arcEdges;
+    private final int[] arcFirsts;
+    private final int[] arcSeconds;
+
+    private ContractionHierarchy(CompactSubwayGraph graph, int[] upOffsets, int[] upTargets, int[] upWeights,
+                                 int[] upArcs, LineStationEdge[] arcEdges, int[] arcFirsts, int[] arcSeconds) {
+        this.graph = graph;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upArcs = upArcs;
+        this.arcEdges = arcEdges;
+        this.arcFirsts = arcFirsts;
+        this.arcSeconds = arcSeconds;
+    }
+
+    public static ContractionHierarchy of(CompactSubwayGraph graph) {
+        return new Builder(graph).build();
+    }
+
+    public SubwayPath findPath(Long source, Long target) {
+        int from = graph.stationIndexOf(source);
+        int to = graph.stationIndexOf(target);
+        if (from == to) {
+            return new SubwayPath(new ArrayList<>(), source);
+        }
+
+        int nodeCount = upOffsets.length - 1;
+        DijkstraWorkspace forward = DijkstraWorkspace.forward(nodeCount, upTargets.length);
+        DijkstraWorkspace backward = DijkstraWorkspace.backward(nodeCount, upTargets.length);
+        forward.reset();
+        backward.reset();
+        forward.relax(from, 0, NONE, NONE);
+        backward.relax(to, 0, NONE, NONE);
+
+        // 양쪽 모두 순위가 올라가는 간선만 따라가므로, 한쪽 큐의 최솟값이 best 이상이 되면 그쪽은 더 볼 필요가 없다
+        long best = Long.MAX_VALUE;
+        int meeting = NONE;
+        while (true) {
+            boolean forwardActive = forward.discardStale() && (forward.peek() >>> 32) < best;
+            boolean backwardActive = backward.discardStale() && (backward.peek() >>> 32) < best;
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+
+            boolean isForward = forwardActive && (!backwardActive || forward.peek() <= backward.peek());
+            DijkstraWorkspace current = isForward ? forward : backward;
+            DijkstraWorkspace opposite = isForward ? backward : forward;
+            long entry = current.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            for (int i = upOffsets[node]; i < upOffsets[node + 1]; i++) {
+                int next = upTargets[i];
+                if (current.relax(next, distance + upWeights[i], node, upArcs[i]) && opposite.isReached(next)) {
+                    long candidate = (long) current.distances[next] + opposite.distances[next];
+                    if (candidate < best) {
+                        best = candidate;
+                        meeting = next;
+                    }
+                }
+            }
+        }
+
+        if (meeting == NONE) {
+            throw new IllegalArgumentException("no path between " + source + " and " + target);
+        }
+        return toSubwayPath(forward, backward, meeting, source);
+    }
+
+    private SubwayPath toSubwayPath(DijkstraWorkspace forward, DijkstraWorkspace backward, int meeting, Long source) {
+        List<Integer> forwardArcs = new ArrayList<>();
+        for (int node = meeting; forward.prevArcs[node] != NONE; node = forward.prevNodes[node]) {
+            forwardArcs.add(forward.prevArcs[node]);
+        }
+
+        List<LineStationEdge> path = new ArrayList<>();
+        for (int i = forwardArcs.size() - 1; i >= 0; i--) {
+            unpack(forwardArcs.get(i), false, path);
+        }
+        // 도착역 쪽 탐색의 간선은 도착역에서 만난 역 방향이므로 거꾸로 펼친다
+        for (int node = meeting; backward.prevArcs[node] != NONE; node = backward.prevNodes[node]) {
+            unpack(backward.prevArcs[node], true, path);
+        }
+        return graph.preferSameLine(new SubwayPath(path, source));
+    }
+
+    private void unpack(int arc, boolean reversed, List<LineStationEdge> path) {
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(arc);
+        while (!stack.isEmpty()) {
+            int current = stack.pop();
+            if (arcEdges[current] != null) {
+                path.add(arcEdges[current]);
+                continue;
+            }
+            // u -> v -> w 로 축약된 지름길은 거꾸로 지날 때 w -> v -> u 순서로 펼친다
+            if (reversed) {
+                stack.push(arcFirsts[current]);
+                stack.push(arcSeconds[current]);
+            } else {
+                stack.push(arcSeconds[current]);
+                stack.push(arcFirsts[current]);
+            }
+        }
+    }
+
+    public int getShortcutCount() {
+        int count = 0;
+        for (int i = 0; i < upArcs.length; i++) {
+            if (arcEdges[upArcs[i]] == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 축약 순서를 정하고 지름길을 추가하는 전처리 단계.
+     * 역의 우선순위는 (추가할 지름길 수 - 없어지는 간선 수 + 이미 축약된 이웃 수) 이며, 꺼낼 때 다시 계산한다.
+     */
+    private static class Builder {
+        private final CompactSubwayGraph graph;
+        private final int nodeCount;
+        private final List<Map<Integer, Integer>> neighbors;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final List<int[]> upwardArcs;
+        private final DijkstraWorkspace witnessWorkspace;
+        private int[] arcTargets = new int[16];
+        private int[] arcWeights = new int[16];
+        private int[] arcFirsts = new int[16];
+        private int[] arcSeconds = new int[16];
+        private LineStationEdge[] arcEdges = new LineStationEdge[16];
+        private int arcCount;
+
+        private Builder(CompactSubwayGraph graph) {
+            this.graph = graph;
+            this.nodeCount = graph.getStationCount();
+            this.neighbors = new ArrayList<>();
+            for (int node = 0; node < nodeCount; node++) {
+                neighbors.add(new HashMap<>());
+            }
+            this.contracted = new boolean[nodeCount];
+            this.contractedNeighbors = new int[nodeCount];
+            this.upwardArcs = new ArrayList<>(Collections.nCopies(nodeCount, (int[]) null));
+            this.witnessWorkspace = new DijkstraWorkspace(nodeCount, graph.getArcCount());
+        }
+
+        private ContractionHierarchy build() {
+            // 같은 두 역 사이의 여러 구간 중 가장 가벼운 구간만 남긴다
+            for (int node = 0; node < nodeCount; node++) {
+                for (int arc = graph.firstArcOf(node); arc < graph.lastArcOf(node); arc++) {
+                    int target = graph.targetOf(arc);
+                    if (target != node && isLighter(node, target, graph.weightOf(arc))) {
+                        neighbors.get(node).put(target, addArc(target, graph.weightOf(arc), graph.edgeOf(arc), NONE, NONE));
+                    }
+                }
+            }
+
+            PriorityQueue<Long> queue = new PriorityQueue<>();
+            for (int node = 0; node < nodeCount; node++) {
+                queue.add(entryOf(priorityOf(node), node));
+            }
+            while (!queue.isEmpty()) {
+                int node = (int) (long) queue.poll();
+                int priority = priorityOf(node);
+                if (!queue.isEmpty() && entryOf(priority, node) > queue.peek()) {
+                    queue.add(entryOf(priority, node));
+                    continue;
+                }
+                contract(node);
+            }
+            return toHierarchy();
+        }
+
+        private long entryOf(int priority, int node) {
+            return ((long) priority << 32) | node;
+        }
+
+        private boolean isLighter(int from, int to, int weight) {
+            Integer arc = neighbors.get(from).get(to);
+            return arc == null || weight < arcWeights[arc];
+        }
+
+        private int addArc(int target, int weight, LineStationEdge edge, int first, int second) {
+            if (arcCount == arcTargets.length) {
+                int capacity = arcCount * 2;
+                arcTargets = Arrays.copyOf(arcTargets, capacity);
+                arcWeights = Arrays.copyOf(arcWeights, capacity);
+                arcFirsts = Arrays.copyOf(arcFirsts, capacity);
+                arcSeconds = Arrays.copyOf(arcSeconds, capacity);
+                arcEdges = Arrays.copyOf(arcEdges, capacity);
+            }
+            arcTargets[arcCount] = target;
+            arcWeights[arcCount] = weight;
+            arcEdges[arcCount] = edge;
+            arcFirsts[arcCount] = first;
+            arcSeconds[arcCount] = second;
+            return arcCount++;
+        }
+
+        private int priorityOf(int node) {
+            int degree = 0;
+            for (Integer neighbor : neighbors.get(node).keySet()) {
+                if (!contracted[neighbor]) {
+                    degree++;
+                }
+            }
+            return findShortcuts(node).size() - degree + contractedNeighbors[node];
+        }
+
+        private void contract(int node) {
+            List<int[]> shortcuts = findShortcuts(node);
+
+            // 남아 있는 이웃은 모두 이 역보다 순위가 높으므로 지금의 간선이 곧 위로 올라가는 간선이다
+            Map<Integer, Integer> arcs = neighbors.get(node);
+            int[] upward = new int[arcs.size() * 2];
+            int count = 0;
+            for (Map.Entry<Integer, Integer> it : arcs.entrySet()) {
+                if (!contracted[it.getKey()]) {
+                    upward[count++] = it.getKey();
+                    upward[count++] = it.getValue();
+                    contractedNeighbors[it.getKey()]++;
+                }
+            }
+            upwardArcs.set(node, Arrays.copyOf(upward, count));
+            contracted[node] = true;
+
+            for (int[] shortcut : shortcuts) {
+                addShortcut(shortcut[0], node, shortcut[1]);
+                addShortcut(shortcut[1], node, shortcut[0]);
+            }
+            neighbors.set(node, null);
+        }
+
+        private void addShortcut(int from, int via, int to) {
+            int first = neighbors.get(from).get(via);
+            int second = neighbors.get(via).get(to);
+            int weight = arcWeights[first] + arcWeights[second];
+            if (isLighter(from, to, weight)) {
+                neighbors.get(from).put(to, addArc(to, weight, null, first, second));
+            }
+        }
+
+        /**
+         * node 를 없앴을 때 필요한 지름길 (u, w) 쌍을 찾는다. u 에서 node 를 거치지 않고
+         * u - node - w 보다 길지 않게 w 에 갈 수 있으면(witness) 지름길이 필요 없다.
+         */
+        private List<int[]> findShortcuts(int node) {
+            List<Integer> remaining = new ArrayList<>();
+            for (Integer neighbor : neighbors.get(node).keySet()) {
+                if (!contracted[neighbor]) {
+                    remaining.add(neighbor);
+                }
+            }
+
+            List<int[]> shortcuts = new ArrayList<>();
+            for (int i = 0; i < remaining.size(); i++) {
+                int from = remaining.get(i);
+                int toFrom = arcWeights[neighbors.get(node).get(from)];
+                int limit = 0;
+                for (int j = i + 1; j < remaining.size(); j++) {
+                    limit = Math.max(limit, toFrom + arcWeights[neighbors.get(node).get(remaining.get(j))]);
+                }
+                searchWitness(from, node, limit);
+                for (int j = i + 1; j < remaining.size(); j++) {
+                    int to = remaining.get(j);
+                    int viaNode = toFrom + arcWeights[neighbors.get(node).get(to)];
+                    if (!witnessWorkspace.isReached(to) || witnessWorkspace.distances[to] > viaNode) {
+                        shortcuts.add(new int[]{from, to});
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        private void searchWitness(int from, int excluded, int limit) {
+            witnessWorkspace.reset();
+            witnessWorkspace.relax(from, 0, NONE, NONE);
+            int settled = 0;
+            while (witnessWorkspace.discardStale() && settled++ < WITNESS_SETTLE_LIMIT) {
+                long entry = witnessWorkspace.poll();
+                int node = (int) entry;
+                int distance = (int) (entry >>> 32);
+                if (distance > limit) {
+                    return;
+                }
+                for (Map.Entry<Integer, Integer> it : neighbors.get(node).entrySet()) {
+                    int next = it.getKey();
+                    if (next != excluded && !contracted[next]) {
+                        witnessWorkspace.relax(next, distance + arcWeights[it.getValue()], node, it.getValue());
+                    }
+                }
+            }
+        }
+
+        private ContractionHierarchy toHierarchy() {
+            int[] upOffsets = new int[nodeCount + 1];
+            for (int node = 0; node < nodeCount; node++) {
+                upOffsets[node + 1] = upOffsets[node] + upwardArcs.get(node).length / 2;
+            }
+            int[] upTargets = new int[upOffsets[nodeCount]];
+            int[] upWeights = new int[upTargets.length];
+            int[] upArcs = new int[upTargets.length];
+            for (int node = 0; node < nodeCount; node++) {
+                int[] upward = upwardArcs.get(node);
+                for (int i = 0; i < upward.length; i += 2) {
+                    int index = upOffsets[node] + i / 2;
+                    upTargets[index] = upward[i];
+                    upArcs[index] = upward[i + 1];
+                    upWeights[index] = arcWeights[upward[i + 1]];
+                }
+            }
+            return new ContractionHierarchy(graph, upOffsets, upTargets, upWeights, upArcs,
+                    Arrays.copyOf(arcEdges, arcCount), Arrays.copyOf(arcFirsts, arcCount),
+                    Arrays.copyOf(arcSeconds, arcCount));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package wooteco.subway.maps.map.domain;
+
+import java.util.Arrays;
+
+/**
+ * 스레드마다 하나씩 재사용하는 다익스트라 작업 공간.
+ * 세대 번호(stamp)로 이전 탐색의 값을 무효화하므로 조회마다 배열을 비우거나 새로 만들지 않는다.
+ * 큐 항목은 (key << 32) | node 로 묶은 long 값이다.
+ */
+class DijkstraWorkspace {
+    private static final int FORWARD = 0;
+    private static final int BACKWARD = 1;
+    // 그래프 인스턴스가 아니라 스레드에 묶어 모든 그래프가 함께 쓰므로, 노선도 스냅샷이 바뀌어도 옛 그래프의 작업 공간이 남지 않는다
+    private static final ThreadLocal<DijkstraWorkspace[]> CACHE = ThreadLocal.withInitial(() -> new DijkstraWorkspace[2]);
+
+    final int[] distances;
+    final int[] prevNodes;
+    final int[] prevArcs;
+    private final int[] keys;
+    private final int[] stamps;
+    private long[] heap;
+    private int stamp;
+    private int size;
+
+    DijkstraWorkspace(int nodeCount, int arcCount) {
+        this.distances = new int[nodeCount];
+        this.keys = new int[nodeCount];
+        this.prevNodes = new int[nodeCount];
+        this.prevArcs = new int[nodeCount];
+        this.stamps = new int[nodeCount];
+        this.heap = new long[arcCount + 1];
+    }
+
+    static DijkstraWorkspace forward(int nodeCount, int arcCount) {
+        return cached(FORWARD, nodeCount, arcCount);
+    }
+
+    // 양방향 탐색에서 forward 와 동시에 쓰는 두 번째 작업 공간
+    static DijkstraWorkspace backward(int nodeCount, int arcCount) {
+        return cached(BACKWARD, nodeCount, arcCount);
+    }
+
+    // 노드 수가 모자랄 때만 새로 만든다. 큐는 탐색 중에 필요한 만큼 늘어나므로 간선 수는 처음 크기로만 쓴다
+    private static DijkstraWorkspace cached(int slot, int nodeCount, int arcCount) {
+        DijkstraWorkspace[] workspaces = CACHE.get();
+        if (workspaces[slot] == null || workspaces[slot].distances.length < nodeCount) {
+            workspaces[slot] = new DijkstraWorkspace(nodeCount, arcCount);
+        }
+        return workspaces[slot];
+    }
+
+    void reset() {
+        size = 0;
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    // 큐 항목의 키가 그 역의 마지막 키와 같을 때만 유효한 항목이다
+    boolean isCurrent(int node, int key) {
+        return keys[node] == key;
+    }
+
+    boolean isImprovedBy(int node, int distance) {
+        return stamps[node] != stamp || distance < distances[node];
+    }
+
+    boolean relax(int node, int distance, int prevNode, int prevArc) {
+        return relax(node, distance, distance, prevNode, prevArc);
+    }
+
+    // key 는 큐의 우선순위로, 다익스트라에서는 distance 와 같고 A* 에서는 distance + 하한값이다
+    boolean relax(int node, int distance, int key, int prevNode, int prevArc) {
+        if (!isImprovedBy(node, distance)) {
+            return false;
+        }
+        stamps[node] = stamp;
+        distances[node] = distance;
+        keys[node] = key;
+        prevNodes[node] = prevNode;
+        prevArcs[node] = prevArc;
+        push(((long) key << 32) | node);
+        return true;
+    }
+
+    boolean isReached(int node) {
+        return stamps[node] == stamp;
+    }
+
+    // 큐 맨 앞의 낡은 항목을 버리고, 남은 항목이 있는지 알려준다
+    boolean discardStale() {
+        while (size > 0 && !isCurrent((int) heap[0], (int) (heap[0] >>> 32))) {
+            poll();
+        }
+        return size > 0;
+    }
+
+    long peek() {
+        return heap[0];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void push(long entry) {
+        // 탐색 중에 간선이 늘어나는 축약 단계에서는 큐가 처음 크기를 넘을 수 있다
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    long poll() {
+        long top = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+}
@@ -0,0 +1,81 @@
+package wooteco.subway.maps.map.domain;
+
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노선별 추가 요금과 거리별 요금표를 미리 계산해 둔 요금 계산기.
+ * 노선도 스냅샷과 함께 만들어지므로 요금을 계산할 때 DB 를 조회하지 않는다.
+ */
+public class FareCalculator {
+    public static final int DEFAULT_FARE = 1250;
+    private static final int MAX_TABLE_DISTANCE = 10_000;
+
+    private final Map<Long, Integer> extraFares;
+    private final int[] distanceFares;
+
+    private FareCalculator(Map<Long, Integer> extraFares, int[] distanceFares) {
+        this.extraFares = Collections.unmodifiableMap(extraFares);
+        this.distanceFares = distanceFares;
+    }
+
+    public static FareCalculator of(List<Line> lines) {
+        Map<Long, Integer> extraFares = new HashMap<>();
+        int totalDistance = 0;
+        for (Line line : lines) {
+            extraFares.put(line.getId(), line.getExtraFare());
+            for (LineStation lineStation : line.getStationInOrder()) {
+                totalDistance += lineStation.getDistance();
+            }
+        }
+
+        // 어떤 경로도 전체 구간 거리의 합보다 길 수 없으므로 그만큼만 요금표를 만든다
+        int[] distanceFares = new int[Math.min(totalDistance, MAX_TABLE_DISTANCE) + 1];
+        for (int distance = 0; distance < distanceFares.length; distance++) {
+            distanceFares[distance] = calculateFareByDistance(distance);
+        }
+        return new FareCalculator(extraFares, distanceFares);
+    }
+
+    public int calculateFare(SubwayPath subwayPath) {
+        return findFareByDistance(subwayPath.calculateDistance()) + findFareByLine(subwayPath.getLineStationEdges());
+    }
+
+    int findExtraFareOf(Long lineId) {
+        return extraFares.getOrDefault(lineId, 0);
+    }
+
+    private int findFareByDistance(int distance) {
+        if (distance < distanceFares.length) {
+            return distanceFares[distance];
+        }
+        return calculateFareByDistance(distance);
+    }
+
+    private int findFareByLine(List<LineStationEdge> lineStationEdges) {
+        int extraFare = 0;
+        for (LineStationEdge lineStationEdge : lineStationEdges) {
+            extraFare = Math.max(extraFare, findExtraFareOf(lineStationEdge.getLineId()));
+        }
+        return extraFare;
+    }
+
+    private static int calculateFareByDistance(int distance) {
+        if (distance > 10) {
+            return DEFAULT_FARE + calculateOverFareByDistance(distance - 10);
+        }
+        return DEFAULT_FARE;
+    }
+
+    private static int calculateOverFareByDistance(int distance) {
+        if (distance > 40) {
+            return 800 + (int) ((Math.ceil((distance - 41) / 8) + 1) * 100);
+        }
+        return (int) ((Math.ceil((distance - 1) / 5) + 1) * 100);
+    }
+}
@@ -0,0 +1,41 @@
+package wooteco.subway.maps.map.domain;
+
+import java.time.LocalTime;
+
+/**
+ * 시간표로 찾은 여정. 처음 열차를 타는 시각과 도착역에 내리는 시각을 자정부터 흐른 분으로 가진다.
+ */
+public class Journey {
+    private static final int MINUTES_OF_DAY = 24 * 60;
+
+    private final SubwayPath path;
+    private final int departureMinutes;
+    private final int arrivalMinutes;
+
+    public Journey(SubwayPath path, int departureMinutes, int arrivalMinutes) {
+        this.path = path;
+        this.departureMinutes = departureMinutes;
+        this.arrivalMinutes = arrivalMinutes;
+    }
+
+    public SubwayPath getPath() {
+        return path;
+    }
+
+    public LocalTime getDepartureTime() {
+        return toLocalTime(departureMinutes);
+    }
+
+    public LocalTime getArrivalTime() {
+        return toLocalTime(arrivalMinutes);
+    }
+
+    // 환승 대기 시간을 포함한, 처음 열차를 탄 뒤부터 도착할 때까지 걸린 분
+    public int getElapsedMinutes() {
+        return arrivalMinutes - departureMinutes;
+    }
+
+    private LocalTime toLocalTime(int minutes) {
+        return LocalTime.of(minutes % MINUTES_OF_DAY / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,226 @@
+package wooteco.subway.maps.map.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Yen 알고리즘으로 같은 역을 두 번 지나지 않는 최단 경로를 짧은 순서대로 찾고,
+ * 이미 고른 경로와 구간이 너무 많이 겹치는 경로는 대안으로 내놓지 않는다.
+ */
+public class KShortestPathFinder {
+    private static final int NONE = -1;
+    // 고른 경로와 겹치는 구간 비용이 이 비율을 넘으면 같은 경로로 본다
+    private static final double MAX_OVERLAP_RATIO = 0.8;
+    // 대안 하나를 고르기 위해 살펴볼 최대 후보 경로 수. 조회 시간을 예측 가능하게 유지한다
+    private static final int CANDIDATES_PER_PATH = 5;
+
+    private final CompactSubwayGraph graph;
+
+    public KShortestPathFinder(CompactSubwayGraph graph) {
+        this.graph = graph;
+    }
+
+    public List<SubwayPath> findPaths(Long source, Long target, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        int from = graph.stationIndexOf(source);
+        int to = graph.stationIndexOf(target);
+        DijkstraWorkspace workspace = new DijkstraWorkspace(graph.getStationCount(), graph.getArcCount());
+        boolean[] bannedNodes = new boolean[graph.getStationCount()];
+        boolean[] bannedEdges = new boolean[graph.getEdgeCount()];
+
+        Route shortest = findRoute(workspace, from, to, bannedNodes, bannedEdges);
+        if (shortest == null) {
+            throw new IllegalArgumentException("no path between " + source + " and " + target);
+        }
+
+        List<Route> found = new ArrayList<>(Collections.singletonList(shortest));
+        List<Route> selected = new ArrayList<>(found);
+        PriorityQueue<Route> candidates = new PriorityQueue<>();
+        Set<List<Integer>> seen = new HashSet<>(Collections.singletonList(shortest.edgeIndexes()));
+        int limit = count * CANDIDATES_PER_PATH;
+        while (selected.size() < count && found.size() < limit) {
+            Route previous = found.get(found.size() - 1);
+            for (int i = 0; i < previous.arcs.length; i++) {
+                Route spur = findSpurRoute(workspace, found, previous, i, to, bannedNodes, bannedEdges);
+                if (spur != null && seen.add(spur.edgeIndexes())) {
+                    candidates.add(spur);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Route next = candidates.poll();
+            found.add(next);
+            if (isDiverse(next, selected)) {
+                selected.add(next);
+            }
+        }
+
+        List<SubwayPath> paths = new ArrayList<>();
+        for (Route route : selected) {
+            paths.add(route.toSubwayPath());
+        }
+        return paths;
+    }
+
+    /**
+     * previous 경로의 앞 index 개 구간(root)은 그대로 두고, 그 끝 역(spur)에서 도착역까지 새로 찾는다.
+     * root 를 공유하는 이미 찾은 경로들의 다음 구간과 root 위의 역은 지나지 않는다.
+     */
+    private Route findSpurRoute(DijkstraWorkspace workspace, List<Route> found, Route previous, int index, int to,
+                                boolean[] bannedNodes, boolean[] bannedEdges) {
+        List<Integer> banned = new ArrayList<>();
+        for (Route route : found) {
+            if (route.arcs.length > index && route.hasSameRoot(previous, index)) {
+                int edge = graph.edgeIndexOf(route.arcs[index]);
+                bannedEdges[edge] = true;
+                banned.add(edge);
+            }
+        }
+        for (int i = 0; i < index; i++) {
+            bannedNodes[previous.nodes[i]] = true;
+        }
+
+        Route spur = findRoute(workspace, previous.nodes[index], to, bannedNodes, bannedEdges);
+
+        for (int edge : banned) {
+            bannedEdges[edge] = false;
+        }
+        for (int i = 0; i < index; i++) {
+            bannedNodes[previous.nodes[i]] = false;
+        }
+        return spur == null ? null : previous.root(index).append(spur);
+    }
+
+    private Route findRoute(DijkstraWorkspace workspace, int from, int to, boolean[] bannedNodes, boolean[] bannedEdges) {
+        workspace.reset();
+        workspace.relax(from, 0, NONE, NONE);
+        while (!workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            if (!workspace.isCurrent(node, distance)) {
+                continue;
+            }
+            if (node == to) {
+                return toRoute(workspace, from, to);
+            }
+            for (int arc = graph.firstArcOf(node); arc < graph.lastArcOf(node); arc++) {
+                int next = graph.targetOf(arc);
+                if (!bannedNodes[next] && !bannedEdges[graph.edgeIndexOf(arc)]) {
+                    workspace.relax(next, distance + graph.weightOf(arc), node, arc);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Route toRoute(DijkstraWorkspace workspace, int from, int to) {
+        List<Integer> arcs = new ArrayList<>();
+        for (int node = to; workspace.prevArcs[node] != NONE; node = workspace.prevNodes[node]) {
+            arcs.add(workspace.prevArcs[node]);
+        }
+        Collections.reverse(arcs);
+        int[] arcArray = arcs.stream().mapToInt(Integer::intValue).toArray();
+        return new Route(from, arcArray);
+    }
+
+    // 두 역 사이의 구간을 노선과 관계없이 같은 구간으로 보고, 겹치는 비용의 비율을 잰다
+    private boolean isDiverse(Route candidate, List<Route> selected) {
+        if (candidate.cost == 0) {
+            return false;
+        }
+        for (Route route : selected) {
+            Set<Long> segments = route.segments();
+            int shared = 0;
+            for (int i = 0; i < candidate.arcs.length; i++) {
+                if (segments.contains(candidate.segmentAt(i))) {
+                    shared += graph.weightOf(candidate.arcs[i]);
+                }
+            }
+            if (shared > candidate.cost * MAX_OVERLAP_RATIO) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class Route implements Comparable<Route> {
+        private final int[] nodes;
+        private final int[] arcs;
+        private final int cost;
+
+        private Route(int from, int[] arcs) {
+            this.arcs = arcs;
+            this.nodes = new int[arcs.length + 1];
+            this.nodes[0] = from;
+            int sum = 0;
+            for (int i = 0; i < arcs.length; i++) {
+                nodes[i + 1] = graph.targetOf(arcs[i]);
+                sum += graph.weightOf(arcs[i]);
+            }
+            this.cost = sum;
+        }
+
+        private Route root(int length) {
+            return new Route(nodes[0], Arrays.copyOf(arcs, length));
+        }
+
+        private Route append(Route other) {
+            int[] joined = Arrays.copyOf(arcs, arcs.length + other.arcs.length);
+            System.arraycopy(other.arcs, 0, joined, arcs.length, other.arcs.length);
+            return new Route(nodes[0], joined);
+        }
+
+        private boolean hasSameRoot(Route other, int length) {
+            for (int i = 0; i < length; i++) {
+                if (graph.edgeIndexOf(arcs[i]) != graph.edgeIndexOf(other.arcs[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private List<Integer> edgeIndexes() {
+            List<Integer> edgeIndexes = new ArrayList<>();
+            for (int arc : arcs) {
+                edgeIndexes.add(graph.edgeIndexOf(arc));
+            }
+            return edgeIndexes;
+        }
+
+        private long segmentAt(int index) {
+            int a = Math.min(nodes[index], nodes[index + 1]);
+            int b = Math.max(nodes[index], nodes[index + 1]);
+            return (long) a * graph.getStationCount() + b;
+        }
+
+        private Set<Long> segments() {
+            Set<Long> segments = new HashSet<>();
+            for (int i = 0; i < arcs.length; i++) {
+                segments.add(segmentAt(i));
+            }
+            return segments;
+        }
+
+        private SubwayPath toSubwayPath() {
+            List<LineStationEdge> path = new ArrayList<>();
+            for (int arc : arcs) {
+                path.add(graph.edgeOf(arc));
+            }
+            return new SubwayPath(path, graph.stationIdOf(nodes[0]));
+        }
+
+        @Override
+        public int compareTo(Route other) {
+            return Integer.compare(cost, other.cost);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package wooteco.subway.maps.map.domain;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 도착역마다 각 역에서 그 도착역까지 갈 수 있는 가장 늦은 출발 시각을 미리 구해 둔 막차 표.
+ * 조회는 배열 한 칸을 읽으므로 상수 시간이다. 시각은 자정부터 흐른 분을 short 로 담아 역 수의 제곱만큼의 메모리를 줄인다.
+ */
+public class LastTrainTable {
+    private static final int MINUTES_OF_DAY = 24 * 60;
+    private static final short NO_DEPARTURE = -1;
+    private static final short ALWAYS = Short.MAX_VALUE;
+
+    private final Timetable timetable;
+    private final short[][] latestDepartures;
+
+    private LastTrainTable(Timetable timetable, short[][] latestDepartures) {
+        this.timetable = timetable;
+        this.latestDepartures = latestDepartures;
+    }
+
+    public static LastTrainTable of(Timetable timetable) {
+        short[][] latestDepartures = new short[timetable.getStationCount()][];
+        for (int destination = 0; destination < latestDepartures.length; destination++) {
+            latestDepartures[destination] = toColumn(timetable.findLatestDepartures(destination));
+        }
+        return new LastTrainTable(timetable, latestDepartures);
+    }
+
+    // 표 전체를 만들기에 노선도가 너무 크면, 조회할 도착역의 열만 만든다
+    public static LastTrainTable of(Timetable timetable, Collection<Long> destinations) {
+        short[][] latestDepartures = new short[timetable.getStationCount()][];
+        for (Long destination : destinations) {
+            int index = timetable.stationIndexOf(destination);
+            latestDepartures[index] = toColumn(timetable.findLatestDepartures(index));
+        }
+        return new LastTrainTable(timetable, latestDepartures);
+    }
+
+    private static short[] toColumn(int[] departures) {
+        short[] column = new short[departures.length];
+        for (int i = 0; i < departures.length; i++) {
+            if (departures[i] == Timetable.UNREACHABLE) {
+                column[i] = ALWAYS;
+            } else if (departures[i] == Timetable.NO_DEPARTURE) {
+                column[i] = NO_DEPARTURE;
+            } else {
+                column[i] = (short) departures[i];
+            }
+        }
+        return column;
+    }
+
+    /**
+     * source 에서 이 시각 이후에 출발해도 target 에 갈 수 있는지 답한다.
+     */
+    public boolean isReachable(Long source, Long target, LocalTime time) {
+        int latest = findLatestMinutes(source, target);
+        return latest != NO_DEPARTURE && timetable.toServiceMinutes(time) <= latest;
+    }
+
+    // 출발역과 도착역이 같으면 열차를 탈 필요가 없으므로 빈 값을 돌려준다
+    public Optional<LocalTime> findLatestDeparture(Long source, Long target) {
+        int latest = findLatestMinutes(source, target);
+        if (latest == NO_DEPARTURE || latest == ALWAYS) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalTime.of(latest % MINUTES_OF_DAY / 60, latest % 60));
+    }
+
+    private int findLatestMinutes(Long source, Long target) {
+        short[] column = latestDepartures[timetable.stationIndexOf(target)];
+        if (column == null) {
+            throw new IllegalArgumentException("last trains to " + target + " are not computed");
+        }
+        return column[timetable.stationIndexOf(source)];
+    }
+}
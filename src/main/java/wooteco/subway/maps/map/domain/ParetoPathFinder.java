@@ -0,0 +1,193 @@
+package wooteco.subway.maps.map.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 거리, 소요 시간, 요금, 환승 횟수 중 어느 하나도 다른 경로보다 나빠지지 않고서는 줄일 수 없는 경로들을 한 번에 찾는다.
+ * 역마다 서로 지배하지 않는 라벨들만 남기며, 만든 라벨 수가 labelLimit 에 이르면 그때까지 찾은 경로만 돌려준다.
+ */
+public class ParetoPathFinder {
+    private static final int NONE = -1;
+    private static final Comparator<Label> LABEL_ORDER = Comparator.comparingInt((Label it) -> it.duration)
+            .thenComparingInt(it -> it.distance)
+            .thenComparingInt(it -> it.extraFare)
+            .thenComparingInt(it -> it.transfers);
+
+    private final CompactSubwayGraph graph;
+    private final FareCalculator fareCalculator;
+    private final int labelLimit;
+
+    public ParetoPathFinder(CompactSubwayGraph graph, FareCalculator fareCalculator, int labelLimit) {
+        if (labelLimit < 1) {
+            throw new IllegalArgumentException("label limit must be positive: " + labelLimit);
+        }
+        this.graph = graph;
+        this.fareCalculator = fareCalculator;
+        this.labelLimit = labelLimit;
+    }
+
+    public List<SubwayPath> findPaths(Long source, Long target) {
+        int from = graph.stationIndexOf(source);
+        int to = graph.stationIndexOf(target);
+
+        Map<Integer, List<Label>> bags = new HashMap<>();
+        List<Label> arrivals = new ArrayList<>();
+        PriorityQueue<Label> queue = new PriorityQueue<>(LABEL_ORDER);
+        Label start = new Label(from, NONE, 0, 0, 0, 0, null, NONE);
+        bags.computeIfAbsent(from, it -> new ArrayList<>()).add(start);
+        queue.add(start);
+
+        int labelCount = 1;
+        while (!queue.isEmpty() && labelCount < labelLimit) {
+            Label label = queue.poll();
+            if (label.dominated || isDominatedByArrivals(label, arrivals)) {
+                continue;
+            }
+            if (label.node == to) {
+                arrivals.add(label);
+                continue;
+            }
+            for (int arc = graph.firstArcOf(label.node); arc < graph.lastArcOf(label.node); arc++) {
+                Label next = label.extend(arc);
+                if (addToBag(bags.computeIfAbsent(next.node, it -> new ArrayList<>()), next)) {
+                    queue.add(next);
+                    labelCount++;
+                }
+            }
+        }
+
+        // 라벨 한도 때문에 도착하지 못했다면 그래프 기준의 최단 경로 하나만 돌려준다
+        if (arrivals.isEmpty()) {
+            return Collections.singletonList(graph.findPath(source, target));
+        }
+        return toParetoPaths(arrivals);
+    }
+
+    private boolean isDominatedByArrivals(Label label, List<Label> arrivals) {
+        for (Label arrival : arrivals) {
+            if (arrival.distance <= label.distance && arrival.duration <= label.duration
+                    && arrival.extraFare <= label.extraFare && arrival.transfers <= label.transfers) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 새 라벨이 지배당하면 버리고, 새 라벨에 지배당하는 기존 라벨은 큐에서 꺼내더라도 넘어가도록 표시한다
+    private boolean addToBag(List<Label> bag, Label label) {
+        for (Label it : bag) {
+            if (it.dominates(label)) {
+                return false;
+            }
+        }
+        Iterator<Label> iterator = bag.iterator();
+        while (iterator.hasNext()) {
+            Label it = iterator.next();
+            if (label.dominates(it)) {
+                it.dominated = true;
+                iterator.remove();
+            }
+        }
+        bag.add(label);
+        return true;
+    }
+
+    // 라벨은 노선별 추가 요금으로 비교했으므로, 도착한 경로끼리는 실제 요금으로 한 번 더 거른다
+    private List<SubwayPath> toParetoPaths(List<Label> arrivals) {
+        List<SubwayPath> paths = new ArrayList<>();
+        List<int[]> criteria = new ArrayList<>();
+        for (Label arrival : arrivals) {
+            SubwayPath path = arrival.toSubwayPath();
+            paths.add(path);
+            criteria.add(new int[]{arrival.distance, arrival.duration, fareCalculator.calculateFare(path), arrival.transfers});
+        }
+
+        List<SubwayPath> paretoPaths = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i++) {
+            if (!isDominated(i, criteria)) {
+                paretoPaths.add(paths.get(i));
+            }
+        }
+        return paretoPaths;
+    }
+
+    // 기준 값이 모두 같은 경로는 먼저 찾은 하나만 남긴다
+    private boolean isDominated(int index, List<int[]> criteria) {
+        int[] target = criteria.get(index);
+        for (int i = 0; i < criteria.size(); i++) {
+            int[] other = criteria.get(i);
+            if (i == index || !isNoWorse(other, target)) {
+                continue;
+            }
+            if (i < index || !isNoWorse(target, other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNoWorse(int[] criteria, int[] other) {
+        for (int i = 0; i < criteria.length; i++) {
+            if (criteria[i] > other[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class Label {
+        private final int node;
+        private final int line;
+        private final int distance;
+        private final int duration;
+        private final int extraFare;
+        private final int transfers;
+        private final Label parent;
+        private final int arc;
+        private boolean dominated;
+
+        private Label(int node, int line, int distance, int duration, int extraFare, int transfers, Label parent, int arc) {
+            this.node = node;
+            this.line = line;
+            this.distance = distance;
+            this.duration = duration;
+            this.extraFare = extraFare;
+            this.transfers = transfers;
+            this.parent = parent;
+            this.arc = arc;
+        }
+
+        private Label extend(int arc) {
+            LineStationEdge edge = graph.edgeOf(arc);
+            int nextLine = graph.lineIndexOf(arc);
+            int nextTransfers = line == NONE || line == nextLine ? transfers : transfers + 1;
+            int nextExtraFare = Math.max(extraFare, fareCalculator.findExtraFareOf(graph.getLineIdOf(arc)));
+            return new Label(graph.targetOf(arc), nextLine, distance + edge.getLineStation().getDistance(),
+                    duration + edge.getLineStation().getDuration(), nextExtraFare, nextTransfers, this, arc);
+        }
+
+        // 지금 타고 있는 노선이 다르면 이어서 갈 때 환승이 한 번 더 생길 수 있으므로 그만큼 불리하게 본다
+        private boolean dominates(Label other) {
+            int transferCost = line == NONE || line == other.line ? transfers : transfers + 1;
+            return distance <= other.distance && duration <= other.duration
+                    && extraFare <= other.extraFare && transferCost <= other.transfers;
+        }
+
+        private SubwayPath toSubwayPath() {
+            List<LineStationEdge> path = new ArrayList<>();
+            Label label = this;
+            for (; label.parent != null; label = label.parent) {
+                path.add(graph.edgeOf(label.arc));
+            }
+            Collections.reverse(path);
+            return new SubwayPath(path, graph.stationIdOf(label.node));
+        }
+    }
+}
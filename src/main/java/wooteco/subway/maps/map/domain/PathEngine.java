@@ -0,0 +1,9 @@
+package wooteco.subway.maps.map.domain;
+
+public enum PathEngine {
+    JGRAPHT,
+    COMPACT,
+    BIDIRECTIONAL,
+    ALT,
+    CH
+}
@@ -0,0 +1,181 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.base.Suppliers;
+import wooteco.subway.maps.line.domain.Line;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 특정 버전의 노선 정보로 만든 경로 탐색용 그래프 스냅샷.
+ * 한 번 만들어진 뒤에는 변경하지 않으므로 여러 요청이 동시에 읽어도 안전하다.
+ * 일부 노선만 바뀌면 {@link #withLines} 로 바뀐 부분만 반영한 새 스냅샷을 만든다.
+ * jgrapht 그래프, 시간표와 환승 그래프는 쓰는 조회가 처음 올 때 만들어, 구간을 고칠 때마다 다시 만들지 않는다.
+ */
+public class SubwayNetwork {
+    private final long version;
+    private final List<Line> lines;
+    private final int transferPenalty;
+    private final Map<PathType, Supplier<SubwayGraph>> graphs;
+    private final Map<PathType, CompactSubwayGraph> compactGraphs;
+    private final Map<PathType, Supplier<TransferSubwayGraph>> transferGraphs;
+    private final FareCalculator fareCalculator;
+    private final Supplier<Timetable> timetable;
+    // 축약 계층은 만드는 데 오래 걸리므로 스냅샷을 만든 뒤 따로 채운다
+    private volatile Map<PathType, ContractionHierarchy> contractionHierarchies = Collections.emptyMap();
+    // 막차 표도 역 수의 제곱에 비례해 오래 걸리므로 따로 채운다
+    private volatile LastTrainTable lastTrainTable;
+
+    private SubwayNetwork(long version, List<Line> lines, int transferPenalty, Map<PathType, Supplier<SubwayGraph>> graphs,
+                          Map<PathType, CompactSubwayGraph> compactGraphs,
+                          Map<PathType, Supplier<TransferSubwayGraph>> transferGraphs, FareCalculator fareCalculator,
+                          Supplier<Timetable> timetable) {
+        this.version = version;
+        this.lines = Collections.unmodifiableList(lines);
+        this.transferPenalty = transferPenalty;
+        this.graphs = Collections.unmodifiableMap(graphs);
+        this.compactGraphs = Collections.unmodifiableMap(compactGraphs);
+        this.transferGraphs = Collections.unmodifiableMap(transferGraphs);
+        this.fareCalculator = fareCalculator;
+        this.timetable = timetable;
+    }
+
+    public static SubwayNetwork of(long version, List<Line> lines) {
+        return of(version, lines, 0);
+    }
+
+    // 환승 비용이 0 이면 노선별 정점 그래프를 만들지 않고, 환승을 따로 고려하지 않는다
+    public static SubwayNetwork of(long version, List<Line> lines, int transferPenalty) {
+        Map<PathType, CompactSubwayGraph> compactGraphs = new EnumMap<>(PathType.class);
+        for (PathType type : PathType.values()) {
+            compactGraphs.put(type, CompactSubwayGraph.of(lines, type));
+        }
+        return new SubwayNetwork(version, lines, transferPenalty, graphsOf(lines), compactGraphs,
+                transferGraphsOf(lines, transferPenalty), FareCalculator.of(lines), timetableOf(lines));
+    }
+
+    // jgrapht 그래프는 JGRAPHT 엔진으로 조회할 때만 쓰므로 기본 엔진에서는 만들지 않는다
+    private static Map<PathType, Supplier<SubwayGraph>> graphsOf(List<Line> lines) {
+        Map<PathType, Supplier<SubwayGraph>> graphs = new EnumMap<>(PathType.class);
+        for (PathType type : PathType.values()) {
+            graphs.put(type, Suppliers.memoize(() -> {
+                SubwayGraph graph = new SubwayGraph(LineStationEdge.class);
+                graph.addVertexWith(lines);
+                graph.addEdge(lines, type);
+                return graph;
+            }));
+        }
+        return graphs;
+    }
+
+    private static Map<PathType, Supplier<TransferSubwayGraph>> transferGraphsOf(List<Line> lines, int transferPenalty) {
+        Map<PathType, Supplier<TransferSubwayGraph>> transferGraphs = new EnumMap<>(PathType.class);
+        if (transferPenalty > 0) {
+            for (PathType type : PathType.values()) {
+                transferGraphs.put(type, Suppliers.memoize(() -> TransferSubwayGraph.of(lines, type, transferPenalty)));
+            }
+        }
+        return transferGraphs;
+    }
+
+    private static Supplier<Timetable> timetableOf(List<Line> lines) {
+        return Suppliers.memoize(() -> Timetable.of(lines));
+    }
+
+    /**
+     * lineIds 노선을 changedLines 로 바꾼 새 스냅샷을 만든다. changedLines 에 없는 노선은 지워진 것으로 본다.
+     * 다른 노선의 간선은 기존 그래프에서 그대로 옮기고, 이 스냅샷은 건드리지 않는다.
+     * 축약 계층과 막차 표는 옛 그래프를 가리키므로 넘기지 않고, 변경 이벤트를 받은 서비스가 새로 채운다.
+     */
+    public SubwayNetwork withLines(long version, Collection<Long> lineIds, List<Line> changedLines) {
+        if (lineIds.isEmpty()) {
+            return new SubwayNetwork(version, lines, transferPenalty, graphs, compactGraphs, transferGraphs,
+                    fareCalculator, timetable);
+        }
+        List<Line> nextLines = replaceLines(lineIds, changedLines);
+        Map<PathType, CompactSubwayGraph> nextCompactGraphs = new EnumMap<>(PathType.class);
+        for (PathType type : PathType.values()) {
+            nextCompactGraphs.put(type, compactGraphs.get(type).withLines(lineIds, changedLines, type));
+        }
+        // 구간 변경으로는 노선별 추가 요금이 바뀌지 않으므로 요금 계산기는 그대로 쓴다
+        return new SubwayNetwork(version, nextLines, transferPenalty, graphsOf(nextLines), nextCompactGraphs,
+                transferGraphsOf(nextLines, transferPenalty), fareCalculator, timetableOf(nextLines));
+    }
+
+    // 바뀐 노선은 원래 자리에 두어 역 번호 순서를 유지하고, 새 노선은 뒤에 붙인다
+    private List<Line> replaceLines(Collection<Long> lineIds, List<Line> changedLines) {
+        Map<Long, Line> changed = new HashMap<>();
+        for (Line line : changedLines) {
+            changed.put(line.getId(), line);
+        }
+        Set<Long> removed = new HashSet<>(lineIds);
+        List<Line> nextLines = new ArrayList<>();
+        for (Line line : lines) {
+            if (!removed.contains(line.getId())) {
+                nextLines.add(line);
+            } else if (changed.containsKey(line.getId())) {
+                nextLines.add(changed.remove(line.getId()));
+            }
+        }
+        nextLines.addAll(changed.values());
+        return nextLines;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public SubwayGraph getGraph(PathType type) {
+        return graphs.get(type).get();
+    }
+
+    public CompactSubwayGraph getCompactGraph(PathType type) {
+        return compactGraphs.get(type);
+    }
+
+    public Optional<TransferSubwayGraph> findTransferGraph(PathType type) {
+        return Optional.ofNullable(transferGraphs.get(type)).map(Supplier::get);
+    }
+
+    public FareCalculator getFareCalculator() {
+        return fareCalculator;
+    }
+
+    public Timetable getTimetable() {
+        return timetable.get();
+    }
+
+    public Optional<ContractionHierarchy> findContractionHierarchy(PathType type) {
+        return Optional.ofNullable(contractionHierarchies.get(type));
+    }
+
+    public synchronized void buildContractionHierarchies() {
+        if (!contractionHierarchies.isEmpty()) {
+            return;
+        }
+        Map<PathType, ContractionHierarchy> hierarchies = new EnumMap<>(PathType.class);
+        for (PathType type : PathType.values()) {
+            hierarchies.put(type, ContractionHierarchy.of(compactGraphs.get(type)));
+        }
+        contractionHierarchies = Collections.unmodifiableMap(hierarchies);
+    }
+
+    public Optional<LastTrainTable> findLastTrainTable() {
+        return Optional.ofNullable(lastTrainTable);
+    }
+
+    public synchronized void buildLastTrainTable() {
+        if (lastTrainTable == null) {
+            lastTrainTable = LastTrainTable.of(timetable.get());
+        }
+    }
+}
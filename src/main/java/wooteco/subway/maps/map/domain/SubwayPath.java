@@ -1,15 +1,40 @@
 package wooteco.subway.maps.map.domain;
 
-import com.google.common.collect.Lists;
+import wooteco.subway.maps.line.domain.LineStation;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 출발역에서 이어지는 구간들. 구간은 노선 방향과 반대로 지나갈 수도 있으므로
+ * 역 순서는 출발역에서부터 구간마다 반대쪽 역을 따라가며 구한다.
+ */
 public class SubwayPath {
     private List<LineStationEdge> lineStationEdges;
+    private Long sourceStationId;
 
     public SubwayPath(List<LineStationEdge> lineStationEdges) {
+        this(lineStationEdges, findSourceStationId(lineStationEdges));
+    }
+
+    public SubwayPath(List<LineStationEdge> lineStationEdges, Long sourceStationId) {
         this.lineStationEdges = lineStationEdges;
+        this.sourceStationId = sourceStationId;
+    }
+
+    // 출발역을 모르면 첫 구간의 역 중 두 번째 구간과 닿지 않는 역을 출발역으로 보고, 구간이 하나뿐이면 노선 방향을 따른다
+    private static Long findSourceStationId(List<LineStationEdge> lineStationEdges) {
+        if (lineStationEdges.isEmpty()) {
+            return null;
+        }
+        LineStation first = lineStationEdges.get(0).getLineStation();
+        if (lineStationEdges.size() > 1) {
+            LineStation second = lineStationEdges.get(1).getLineStation();
+            if (first.getPreStationId().equals(second.getPreStationId()) || first.getPreStationId().equals(second.getStationId())) {
+                return first.getStationId();
+            }
+        }
+        return first.getPreStationId();
     }
 
     public List<LineStationEdge> getLineStationEdges() {
@@ -17,14 +42,33 @@ public class SubwayPath {
     }
 
     public List<Long> extractStationId() {
-        List<Long> stationIds = Lists.newArrayList(lineStationEdges.get(0).getLineStation().getPreStationId());
-        stationIds.addAll(lineStationEdges.stream()
-                .map(it -> it.getLineStation().getStationId())
-                .collect(Collectors.toList()));
-
+        List<Long> stationIds = new ArrayList<>();
+        if (sourceStationId == null) {
+            return stationIds;
+        }
+        Long stationId = sourceStationId;
+        stationIds.add(stationId);
+        for (LineStationEdge lineStationEdge : lineStationEdges) {
+            stationId = lineStationEdge.extractTargetStationId(stationId);
+            stationIds.add(stationId);
+        }
         return stationIds;
     }
 
+    // 이어진 두 구간의 노선이 다르면 두 구간이 만나는 역에서 환승한 것이다
+    public List<Long> extractTransferStationIds() {
+        List<Long> transferStationIds = new ArrayList<>();
+        Long stationId = sourceStationId;
+        for (int i = 0; i < lineStationEdges.size(); i++) {
+            LineStationEdge current = lineStationEdges.get(i);
+            if (i > 0 && !lineStationEdges.get(i - 1).getLineId().equals(current.getLineId())) {
+                transferStationIds.add(stationId);
+            }
+            stationId = current.extractTargetStationId(stationId);
+        }
+        return transferStationIds;
+    }
+
     public int calculateDuration() {
         return lineStationEdges.stream().mapToInt(it -> it.getLineStation().getDuration()).sum();
     }
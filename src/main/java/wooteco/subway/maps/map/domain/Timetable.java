@@ -0,0 +1,398 @@
+package wooteco.subway.maps.map.domain;
+
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 노선의 첫차, 막차 시각과 배차 간격으로 만든 시간표.
+ * 노선마다 상행, 하행 두 방향의 운행 계통(route)을 두고, 열차는 양 끝 역에서 첫차 시각부터 배차 간격마다 출발한다고 본다.
+ * 열차 출발 시각은 계산으로 구하므로 역 수에 비례하는 배열만 미리 만들어 둔다.
+ * 시각은 자정부터 흐른 분이며, 막차가 첫차보다 이르면 자정을 넘겨 운행하는 것으로 본다.
+ * 가장 이른 첫차보다 이른 시각은 전날 운행의 자정 이후 시각으로 본다.
+ */
+public class Timetable {
+    static final int NONE = -1;
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    static final int NO_DEPARTURE = Integer.MIN_VALUE;
+    private static final int MINUTES_OF_DAY = 24 * 60;
+    // 환승을 이보다 많이 하는 여정은 찾지 않는다
+    private static final int MAX_ROUNDS = 8;
+
+    private final long[] stationIds;
+    private final Map<Long, Integer> stationIndexes;
+    private final int[][] routeStops;
+    private final int[][] routeOffsets;
+    private final LineStationEdge[][] routeEdges;
+    private final int[] firstDepartures;
+    private final int[] lastDepartures;
+    private final int[] intervals;
+    private final int[][] stopRoutes;
+    private final int[][] stopPositions;
+    private final int serviceDayStart;
+
+    private Timetable(long[] stationIds, Map<Long, Integer> stationIndexes, int[][] routeStops, int[][] routeOffsets,
+                      LineStationEdge[][] routeEdges, int[] firstDepartures, int[] lastDepartures, int[] intervals,
+                      int[][] stopRoutes, int[][] stopPositions, int serviceDayStart) {
+        this.stationIds = stationIds;
+        this.stationIndexes = stationIndexes;
+        this.routeStops = routeStops;
+        this.routeOffsets = routeOffsets;
+        this.routeEdges = routeEdges;
+        this.firstDepartures = firstDepartures;
+        this.lastDepartures = lastDepartures;
+        this.intervals = intervals;
+        this.stopRoutes = stopRoutes;
+        this.stopPositions = stopPositions;
+        this.serviceDayStart = serviceDayStart;
+    }
+
+    public static Timetable of(List<Line> lines) {
+        List<Long> stationIds = new ArrayList<>();
+        Map<Long, Integer> stationIndexes = new HashMap<>();
+        List<int[]> routeStops = new ArrayList<>();
+        List<int[]> routeOffsets = new ArrayList<>();
+        List<LineStationEdge[]> routeEdges = new ArrayList<>();
+        List<int[]> schedules = new ArrayList<>();
+        for (Line line : lines) {
+            List<LineStation> lineStations = line.getStationInOrder();
+            if (lineStations.size() < 2 || line.getStartTime() == null || line.getEndTime() == null) {
+                continue;
+            }
+            int size = lineStations.size();
+            int[] stops = new int[size];
+            int[] durations = new int[size];
+            LineStationEdge[] edges = new LineStationEdge[size];
+            for (int i = 0; i < size; i++) {
+                LineStation lineStation = lineStations.get(i);
+                stops[i] = stationIndexes.computeIfAbsent(lineStation.getStationId(), it -> {
+                    stationIds.add(it);
+                    return stationIds.size() - 1;
+                });
+                durations[i] = lineStation.getDuration();
+                edges[i] = i == 0 ? null : new LineStationEdge(lineStation, line.getId());
+            }
+
+            int first = toMinutes(line.getStartTime());
+            int last = toMinutes(line.getEndTime());
+            if (last < first) {
+                last += MINUTES_OF_DAY;
+            }
+            int[] schedule = {first, last, line.getIntervalTime()};
+
+            // 하행은 노선 순서대로, 상행은 거꾸로 달린다. 구간 i 의 소요 시간은 역 i-1 과 역 i 사이의 시간이다
+            int[] downOffsets = new int[size];
+            int[] upStops = new int[size];
+            int[] upOffsets = new int[size];
+            LineStationEdge[] upEdges = new LineStationEdge[size];
+            for (int i = 1; i < size; i++) {
+                downOffsets[i] = downOffsets[i - 1] + durations[i];
+            }
+            for (int i = 0; i < size; i++) {
+                upStops[i] = stops[size - 1 - i];
+                upOffsets[i] = downOffsets[size - 1] - downOffsets[size - 1 - i];
+                upEdges[i] = i == 0 ? null : edges[size - i];
+            }
+            routeStops.add(stops);
+            routeOffsets.add(downOffsets);
+            routeEdges.add(edges);
+            schedules.add(schedule);
+            routeStops.add(upStops);
+            routeOffsets.add(upOffsets);
+            routeEdges.add(upEdges);
+            schedules.add(schedule);
+        }
+
+        int stationCount = stationIds.size();
+        List<List<int[]>> servingRoutes = new ArrayList<>();
+        for (int i = 0; i < stationCount; i++) {
+            servingRoutes.add(new ArrayList<>());
+        }
+        for (int route = 0; route < routeStops.size(); route++) {
+            int[] stops = routeStops.get(route);
+            for (int position = 0; position < stops.length; position++) {
+                servingRoutes.get(stops[position]).add(new int[]{route, position});
+            }
+        }
+        int[][] stopRoutes = new int[stationCount][];
+        int[][] stopPositions = new int[stationCount][];
+        for (int stop = 0; stop < stationCount; stop++) {
+            List<int[]> serving = servingRoutes.get(stop);
+            stopRoutes[stop] = serving.stream().mapToInt(it -> it[0]).toArray();
+            stopPositions[stop] = serving.stream().mapToInt(it -> it[1]).toArray();
+        }
+
+        return new Timetable(stationIds.stream().mapToLong(Long::longValue).toArray(), stationIndexes,
+                routeStops.toArray(new int[0][]), routeOffsets.toArray(new int[0][]),
+                routeEdges.toArray(new LineStationEdge[0][]),
+                schedules.stream().mapToInt(it -> it[0]).toArray(),
+                schedules.stream().mapToInt(it -> it[1]).toArray(),
+                schedules.stream().mapToInt(it -> it[2]).toArray(),
+                stopRoutes, stopPositions,
+                schedules.stream().mapToInt(it -> it[0]).min().orElse(0));
+    }
+
+    static int toMinutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    int toServiceMinutes(LocalTime time) {
+        int minutes = toMinutes(time);
+        return minutes < serviceDayStart ? minutes + MINUTES_OF_DAY : minutes;
+    }
+
+    /**
+     * RAPTOR 로 departureTime 이후 출발해 가장 일찍 도착하는 여정을 찾는다.
+     * k 번째 라운드는 열차를 k 번 타서 닿는 가장 이른 시각을 구하고, 그 라운드에 새로 닿은 역을 지나는 계통만 다음 라운드에 훑는다.
+     * 도착 시각이 같다면 열차를 덜 갈아타는 여정을 고른다. 첫차 전이나 막차 뒤라 닿을 수 없으면 빈 값을 돌려준다.
+     */
+    public Optional<Journey> findEarliestArrival(Long source, Long target, LocalTime departureTime) {
+        int from = stationIndexOf(source);
+        int to = stationIndexOf(target);
+        int departure = toServiceMinutes(departureTime);
+        if (from == to) {
+            return Optional.of(new Journey(new SubwayPath(new ArrayList<>(), source), departure, departure));
+        }
+
+        int stationCount = stationIds.length;
+        int[] best = new int[stationCount];
+        Arrays.fill(best, UNREACHABLE);
+        best[from] = departure;
+        List<int[]> arrivals = new ArrayList<>();
+        List<int[]> boardRoutes = new ArrayList<>();
+        List<int[]> boardPositions = new ArrayList<>();
+        List<int[]> alightPositions = new ArrayList<>();
+        int[] previous = new int[stationCount];
+        Arrays.fill(previous, UNREACHABLE);
+        previous[from] = departure;
+        arrivals.add(previous);
+        boardRoutes.add(null);
+        boardPositions.add(null);
+        alightPositions.add(null);
+
+        boolean[] marked = new boolean[stationCount];
+        marked[from] = true;
+        int[] queue = new int[routeStops.length];
+        for (int round = 1; round <= MAX_ROUNDS; round++) {
+            Arrays.fill(queue, NONE);
+            boolean any = false;
+            for (int stop = 0; stop < stationCount; stop++) {
+                if (!marked[stop]) {
+                    continue;
+                }
+                marked[stop] = false;
+                for (int i = 0; i < stopRoutes[stop].length; i++) {
+                    int route = stopRoutes[stop][i];
+                    if (queue[route] == NONE || stopPositions[stop][i] < queue[route]) {
+                        queue[route] = stopPositions[stop][i];
+                        any = true;
+                    }
+                }
+            }
+            if (!any) {
+                break;
+            }
+
+            int[] current = new int[stationCount];
+            Arrays.fill(current, UNREACHABLE);
+            int[] routes = new int[stationCount];
+            int[] boards = new int[stationCount];
+            int[] alights = new int[stationCount];
+            for (int route = 0; route < routeStops.length; route++) {
+                if (queue[route] != NONE) {
+                    scanRoute(route, queue[route], previous, current, best, to, routes, boards, alights, marked);
+                }
+            }
+            arrivals.add(current);
+            boardRoutes.add(routes);
+            boardPositions.add(boards);
+            alightPositions.add(alights);
+            previous = current;
+        }
+
+        if (best[to] == UNREACHABLE) {
+            return Optional.empty();
+        }
+        for (int round = 1; round < arrivals.size(); round++) {
+            if (arrivals.get(round)[to] == best[to]) {
+                return Optional.of(toJourney(from, to, round, arrivals, boardRoutes, boardPositions, alightPositions));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 이전 라운드에 닿은 시각보다 늦게 출발하는 가장 이른 열차를 타고, 이후 역마다 더 일찍 닿으면 기록한다
+    private void scanRoute(int route, int start, int[] previous, int[] current, int[] best, int to,
+                           int[] routes, int[] boards, int[] alights, boolean[] marked) {
+        int[] stops = routeStops[route];
+        int[] offsets = routeOffsets[route];
+        int trip = NONE;
+        int boardPosition = NONE;
+        for (int position = start; position < stops.length; position++) {
+            int stop = stops[position];
+            if (trip != NONE) {
+                int arrival = departureOf(route, trip) + offsets[position];
+                if (arrival < best[stop] && arrival < best[to]) {
+                    current[stop] = arrival;
+                    best[stop] = arrival;
+                    routes[stop] = route;
+                    boards[stop] = boardPosition;
+                    alights[stop] = position;
+                    marked[stop] = true;
+                }
+            }
+            if (previous[stop] != UNREACHABLE) {
+                int earliest = findEarliestTrip(route, position, previous[stop]);
+                if (earliest != NONE && (trip == NONE || earliest < trip)) {
+                    trip = earliest;
+                    boardPosition = position;
+                }
+            }
+        }
+    }
+
+    private int departureOf(int route, int trip) {
+        return firstDepartures[route] + trip * intervals[route];
+    }
+
+    int findEarliestTrip(int route, int position, int time) {
+        int wait = time - routeOffsets[route][position] - firstDepartures[route];
+        int trip = 0;
+        if (wait > 0) {
+            if (intervals[route] <= 0) {
+                return NONE;
+            }
+            trip = (wait + intervals[route] - 1) / intervals[route];
+        }
+        return departureOf(route, trip) <= lastDepartures[route] ? trip : NONE;
+    }
+
+    /**
+     * 거꾸로 훑는 RAPTOR 로 모든 역에서 destination 까지 갈 수 있는 가장 늦은 출발 시각을 구한다.
+     * k 번째 라운드는 열차를 k 번 타서 닿을 수 있는, 이전 라운드에 구한 시각까지 도착하는 가장 늦은 열차를 찾는다.
+     * 닿을 수 없는 역은 NO_DEPARTURE, 도착역 자신은 UNREACHABLE(언제든 이미 도착)로 채운다.
+     */
+    int[] findLatestDepartures(int destination) {
+        int stationCount = stationIds.length;
+        int[] best = new int[stationCount];
+        Arrays.fill(best, NO_DEPARTURE);
+        best[destination] = UNREACHABLE;
+        int[] previous = best.clone();
+
+        boolean[] marked = new boolean[stationCount];
+        marked[destination] = true;
+        int[] queue = new int[routeStops.length];
+        for (int round = 1; round <= MAX_ROUNDS; round++) {
+            Arrays.fill(queue, NONE);
+            boolean any = false;
+            for (int stop = 0; stop < stationCount; stop++) {
+                if (!marked[stop]) {
+                    continue;
+                }
+                marked[stop] = false;
+                for (int i = 0; i < stopRoutes[stop].length; i++) {
+                    int route = stopRoutes[stop][i];
+                    if (stopPositions[stop][i] > queue[route]) {
+                        queue[route] = stopPositions[stop][i];
+                        any = true;
+                    }
+                }
+            }
+            if (!any) {
+                break;
+            }
+
+            int[] current = new int[stationCount];
+            Arrays.fill(current, NO_DEPARTURE);
+            for (int route = 0; route < routeStops.length; route++) {
+                if (queue[route] != NONE) {
+                    scanRouteBackward(route, queue[route], previous, current, best, marked);
+                }
+            }
+            previous = current;
+        }
+        return best;
+    }
+
+    // 이전 라운드에 구한 시각까지 그 역에 도착하는 가장 늦은 열차를 찾고, 앞쪽 역마다 그 열차를 타면 되는 시각을 기록한다
+    private void scanRouteBackward(int route, int start, int[] previous, int[] current, int[] best, boolean[] marked) {
+        int[] stops = routeStops[route];
+        int[] offsets = routeOffsets[route];
+        int trip = NONE;
+        for (int position = start; position >= 0; position--) {
+            int stop = stops[position];
+            if (trip != NONE) {
+                int departure = departureOf(route, trip) + offsets[position];
+                if (departure > best[stop]) {
+                    current[stop] = departure;
+                    best[stop] = departure;
+                    marked[stop] = true;
+                }
+            }
+            if (previous[stop] != NO_DEPARTURE) {
+                int latest = findLatestTrip(route, position, previous[stop]);
+                if (latest > trip) {
+                    trip = latest;
+                }
+            }
+        }
+    }
+
+    int findLatestTrip(int route, int position, int time) {
+        int lastTrip = intervals[route] <= 0 ? 0 : (lastDepartures[route] - firstDepartures[route]) / intervals[route];
+        if (time == UNREACHABLE) {
+            return lastTrip;
+        }
+        int slack = time - routeOffsets[route][position] - firstDepartures[route];
+        if (slack < 0) {
+            return NONE;
+        }
+        return intervals[route] <= 0 ? 0 : Math.min(slack / intervals[route], lastTrip);
+    }
+
+    private Journey toJourney(int from, int to, int round, List<int[]> arrivals, List<int[]> boardRoutes,
+                              List<int[]> boardPositions, List<int[]> alightPositions) {
+        List<LineStationEdge> path = new ArrayList<>();
+        int departure = UNREACHABLE;
+        int stop = to;
+        int arrival = arrivals.get(round)[to];
+        for (int k = round; k > 0 && stop != from; k--) {
+            int route = boardRoutes.get(k)[stop];
+            int board = boardPositions.get(k)[stop];
+            int alight = alightPositions.get(k)[stop];
+            for (int position = alight; position > board; position--) {
+                path.add(routeEdges[route][position]);
+            }
+            int boardStop = routeStops[route][board];
+            int trip = findEarliestTrip(route, board, arrivals.get(k - 1)[boardStop]);
+            departure = departureOf(route, trip) + routeOffsets[route][board];
+            stop = boardStop;
+        }
+        Collections.reverse(path);
+        return new Journey(new SubwayPath(path, stationIds[from]), departure, arrival);
+    }
+
+    int stationIndexOf(Long stationId) {
+        Integer index = stationIndexes.get(stationId);
+        if (index == null) {
+            throw new IllegalArgumentException("no such station: " + stationId);
+        }
+        return index;
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    public int getRouteCount() {
+        return routeStops.length;
+    }
+}
@@ -0,0 +1,160 @@
+package wooteco.subway.maps.map.domain;
+
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역을 노선별로 나눈 (역, 노선) 정점으로 만든 경로 탐색용 그래프.
+ * 같은 역의 서로 다른 노선 정점 사이에는 환승 비용(transferPenalty)을 가진 환승 간선이 있으므로,
+ * 구간 비용이 같다면 환승이 적은 경로를 고른다. 환승 비용은 경로 조회 기준과 같은 단위(km 또는 분)이다.
+ */
+public class TransferSubwayGraph {
+    private static final int NONE = -1;
+
+    private final Map<Long, int[]> stationNodes;
+    private final long[] nodeStationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final LineStationEdge[] arcEdges;
+
+    private TransferSubwayGraph(Map<Long, int[]> stationNodes, long[] nodeStationIds, int[] offsets, int[] targets,
+                                int[] weights, LineStationEdge[] arcEdges) {
+        this.stationNodes = stationNodes;
+        this.nodeStationIds = nodeStationIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.arcEdges = arcEdges;
+    }
+
+    public static TransferSubwayGraph of(List<Line> lines, PathType type, int transferPenalty) {
+        if (transferPenalty < 0) {
+            throw new IllegalArgumentException("transfer penalty must not be negative: " + transferPenalty);
+        }
+
+        List<Long> nodeStationIds = new ArrayList<>();
+        Map<Long, List<Integer>> nodesByStation = new HashMap<>();
+        List<int[]> arcs = new ArrayList<>();
+        List<LineStationEdge> edges = new ArrayList<>();
+        for (Line line : lines) {
+            Map<Long, Integer> lineNodes = new HashMap<>();
+            for (LineStation lineStation : line.getStationInOrder()) {
+                int node = nodeStationIds.size();
+                nodeStationIds.add(lineStation.getStationId());
+                lineNodes.put(lineStation.getStationId(), node);
+                nodesByStation.computeIfAbsent(lineStation.getStationId(), it -> new ArrayList<>()).add(node);
+
+                if (lineStation.getPreStationId() != null) {
+                    int preNode = lineNodes.get(lineStation.getPreStationId());
+                    int weight = type.findWeightOf(lineStation);
+                    arcs.add(new int[]{preNode, node, weight, edges.size()});
+                    arcs.add(new int[]{node, preNode, weight, edges.size()});
+                    edges.add(new LineStationEdge(lineStation, line.getId()));
+                }
+            }
+        }
+
+        Map<Long, int[]> stationNodes = new HashMap<>();
+        for (Map.Entry<Long, List<Integer>> it : nodesByStation.entrySet()) {
+            List<Integer> nodes = it.getValue();
+            for (Integer from : nodes) {
+                for (Integer to : nodes) {
+                    if (!from.equals(to)) {
+                        arcs.add(new int[]{from, to, transferPenalty, NONE});
+                    }
+                }
+            }
+            stationNodes.put(it.getKey(), nodes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        int nodeCount = nodeStationIds.size();
+        int[] offsets = new int[nodeCount + 1];
+        for (int[] arc : arcs) {
+            offsets[arc[0] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[arcs.size()];
+        int[] weights = new int[arcs.size()];
+        LineStationEdge[] arcEdges = new LineStationEdge[arcs.size()];
+        int[] cursor = Arrays.copyOf(offsets, nodeCount);
+        for (int[] arc : arcs) {
+            int index = cursor[arc[0]]++;
+            targets[index] = arc[1];
+            weights[index] = arc[2];
+            arcEdges[index] = arc[3] == NONE ? null : edges.get(arc[3]);
+        }
+
+        return new TransferSubwayGraph(stationNodes, nodeStationIds.stream().mapToLong(Long::longValue).toArray(),
+                offsets, targets, weights, arcEdges);
+    }
+
+    /**
+     * 출발역의 모든 노선 정점에서 동시에 탐색을 시작하고, 도착역의 노선 정점 중 하나를 처음 꺼내면 멈춘다.
+     * 출발역에서 타는 노선과 도착역에서 내리는 노선은 고르는 비용이 없다.
+     */
+    public SubwayPath findPath(Long source, Long target) {
+        int[] sourceNodes = nodesOf(source);
+        nodesOf(target);
+        if (source.equals(target)) {
+            return new SubwayPath(new ArrayList<>(), source);
+        }
+
+        DijkstraWorkspace workspace = DijkstraWorkspace.forward(nodeStationIds.length, targets.length);
+        workspace.reset();
+        for (int node : sourceNodes) {
+            workspace.relax(node, 0, NONE, NONE);
+        }
+        while (!workspace.isEmpty()) {
+            long entry = workspace.poll();
+            int node = (int) entry;
+            int distance = (int) (entry >>> 32);
+            if (!workspace.isCurrent(node, distance)) {
+                continue;
+            }
+            if (nodeStationIds[node] == target) {
+                return toSubwayPath(workspace, node);
+            }
+            for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+                workspace.relax(targets[arc], distance + weights[arc], node, arc);
+            }
+        }
+        throw new IllegalArgumentException("no path between " + source + " and " + target);
+    }
+
+    private int[] nodesOf(Long stationId) {
+        int[] nodes = stationNodes.get(stationId);
+        if (nodes == null) {
+            throw new IllegalArgumentException("no such station: " + stationId);
+        }
+        return nodes;
+    }
+
+    // 환승 간선은 원래 구간이 아니므로 경로에서 뺀다
+    private SubwayPath toSubwayPath(DijkstraWorkspace workspace, int target) {
+        List<LineStationEdge> path = new ArrayList<>();
+        int node = target;
+        for (; workspace.prevArcs[node] != NONE; node = workspace.prevNodes[node]) {
+            LineStationEdge edge = arcEdges[workspace.prevArcs[node]];
+            if (edge != null) {
+                path.add(edge);
+            }
+        }
+        Collections.reverse(path);
+        return new SubwayPath(path, nodeStationIds[node]);
+    }
+
+    public int getNodeCount() {
+        return nodeStationIds.length;
+    }
+}
@@ -0,0 +1,36 @@
+package wooteco.subway.maps.map.dto;
+
+import java.time.LocalTime;
+
+public class JourneyResponse {
+    private LocalTime departureTime;
+    private LocalTime arrivalTime;
+    private int elapsedTime;
+    private PathResponse path;
+
+    public JourneyResponse() {
+    }
+
+    public JourneyResponse(LocalTime departureTime, LocalTime arrivalTime, int elapsedTime, PathResponse path) {
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+        this.elapsedTime = elapsedTime;
+        this.path = path;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getElapsedTime() {
+        return elapsedTime;
+    }
+
+    public PathResponse getPath() {
+        return path;
+    }
+}
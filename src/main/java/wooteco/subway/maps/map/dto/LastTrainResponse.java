@@ -0,0 +1,24 @@
+package wooteco.subway.maps.map.dto;
+
+import java.time.LocalTime;
+
+public class LastTrainResponse {
+    private boolean reachable;
+    private LocalTime latestDepartureTime;
+
+    public LastTrainResponse() {
+    }
+
+    public LastTrainResponse(boolean reachable, LocalTime latestDepartureTime) {
+        this.reachable = reachable;
+        this.latestDepartureTime = latestDepartureTime;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    public LocalTime getLatestDepartureTime() {
+        return latestDepartureTime;
+    }
+}
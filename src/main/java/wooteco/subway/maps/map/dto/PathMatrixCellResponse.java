@@ -0,0 +1,40 @@
+package wooteco.subway.maps.map.dto;
+
+import wooteco.subway.maps.map.domain.SubwayPath;
+
+public class PathMatrixCellResponse {
+    private Long target;
+    private int distance;
+    private int duration;
+    private int fare;
+
+    public PathMatrixCellResponse() {
+    }
+
+    public PathMatrixCellResponse(Long target, int distance, int duration, int fare) {
+        this.target = target;
+        this.distance = distance;
+        this.duration = duration;
+        this.fare = fare;
+    }
+
+    public static PathMatrixCellResponse of(Long target, SubwayPath subwayPath, int fare) {
+        return new PathMatrixCellResponse(target, subwayPath.calculateDistance(), subwayPath.calculateDuration(), fare);
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
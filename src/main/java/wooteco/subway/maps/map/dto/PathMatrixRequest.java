@@ -0,0 +1,32 @@
+package wooteco.subway.maps.map.dto;
+
+import wooteco.subway.maps.map.domain.PathType;
+
+import java.util.List;
+
+public class PathMatrixRequest {
+    private List<Long> sources;
+    private List<Long> targets;
+    private PathType type;
+
+    public PathMatrixRequest() {
+    }
+
+    public PathMatrixRequest(List<Long> sources, List<Long> targets, PathType type) {
+        this.sources = sources;
+        this.targets = targets;
+        this.type = type;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public PathType getType() {
+        return type;
+    }
+}
@@ -0,0 +1,24 @@
+package wooteco.subway.maps.map.dto;
+
+import java.util.List;
+
+public class PathMatrixRowResponse {
+    private Long source;
+    private List<PathMatrixCellResponse> cells;
+
+    public PathMatrixRowResponse() {
+    }
+
+    public PathMatrixRowResponse(Long source, List<PathMatrixCellResponse> cells) {
+        this.source = source;
+        this.cells = cells;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public List<PathMatrixCellResponse> getCells() {
+        return cells;
+    }
+}
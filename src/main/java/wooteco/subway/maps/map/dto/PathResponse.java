@@ -2,6 +2,7 @@ package wooteco.subway.maps.map.dto;
 
 import wooteco.subway.maps.station.dto.StationResponse;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class PathResponse {
@@ -9,15 +10,24 @@ public class PathResponse {
     private int duration;
     private int distance;
     private int fare;
+    private int transferCount;
+    private List<StationResponse> transferStations;
 
     public PathResponse() {
     }
 
     public PathResponse(List<StationResponse> stations, int duration, int distance, int fare) {
+        this(stations, duration, distance, fare, new ArrayList<>());
+    }
+
+    public PathResponse(List<StationResponse> stations, int duration, int distance, int fare,
+                        List<StationResponse> transferStations) {
         this.stations = stations;
         this.duration = duration;
         this.distance = distance;
         this.fare = fare;
+        this.transferCount = transferStations.size();
+        this.transferStations = transferStations;
     }
 
     public List<StationResponse> getStations() {
@@ -35,4 +45,12 @@ public class PathResponse {
     public int getFare() {
         return fare;
     }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    public List<StationResponse> getTransferStations() {
+        return transferStations;
+    }
 }
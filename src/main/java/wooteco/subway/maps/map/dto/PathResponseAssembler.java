@@ -14,8 +14,12 @@ public class PathResponseAssembler {
                 .map(it -> StationResponse.of(stations.get(it)))
                 .collect(Collectors.toList());
 
+        List<StationResponse> transferStationResponses = subwayPath.extractTransferStationIds().stream()
+                .map(it -> StationResponse.of(stations.get(it)))
+                .collect(Collectors.toList());
+
         int distance = subwayPath.calculateDistance();
 
-        return new PathResponse(stationResponses, subwayPath.calculateDuration(), distance, fare);
+        return new PathResponse(stationResponses, subwayPath.calculateDuration(), distance, fare, transferStationResponses);
     }
 }
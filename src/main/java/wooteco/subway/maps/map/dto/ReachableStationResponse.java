@@ -0,0 +1,24 @@
+package wooteco.subway.maps.map.dto;
+
+import wooteco.subway.maps.station.dto.StationResponse;
+
+public class ReachableStationResponse {
+    private StationResponse station;
+    private int cost;
+
+    public ReachableStationResponse() {
+    }
+
+    public ReachableStationResponse(StationResponse station, int cost) {
+        this.station = station;
+        this.cost = cost;
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+}
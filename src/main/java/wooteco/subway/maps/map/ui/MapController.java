@@ -2,13 +2,20 @@ package wooteco.subway.maps.map.ui;
 
 import wooteco.subway.maps.map.application.MapService;
 import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.dto.JourneyResponse;
+import wooteco.subway.maps.map.dto.LastTrainResponse;
 import wooteco.subway.maps.map.dto.MapResponse;
 import wooteco.subway.maps.map.dto.PathResponse;
+import wooteco.subway.maps.map.dto.ReachableStationResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalTime;
+import java.util.List;
+
 @RestController
 public class MapController {
     private MapService mapService;
@@ -23,6 +30,39 @@ public class MapController {
         return ResponseEntity.ok(mapService.findPath(source, target, type));
     }
 
+    @GetMapping("/paths/alternatives")
+    public ResponseEntity<List<PathResponse>> findAlternativePaths(@RequestParam Long source, @RequestParam Long target,
+                                                                   @RequestParam PathType type,
+                                                                   @RequestParam(defaultValue = "3") int count) {
+        return ResponseEntity.ok(mapService.findAlternativePaths(source, target, type, count));
+    }
+
+    @GetMapping("/paths/pareto")
+    public ResponseEntity<List<PathResponse>> findParetoPaths(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok(mapService.findParetoPaths(source, target));
+    }
+
+    @GetMapping("/paths/journey")
+    public ResponseEntity<JourneyResponse> findJourney(@RequestParam Long source, @RequestParam Long target,
+                                                       @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime departureTime) {
+        return mapService.findJourney(source, target, departureTime)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/paths/last-train")
+    public ResponseEntity<LastTrainResponse> findLastTrain(@RequestParam Long source, @RequestParam Long target,
+                                                           @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime time) {
+        return ResponseEntity.ok(mapService.findLastTrain(source, target, time));
+    }
+
+    @GetMapping("/paths/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> findReachableStations(@RequestParam Long source,
+                                                                                @RequestParam PathType type,
+                                                                                @RequestParam int budget) {
+        return ResponseEntity.ok(mapService.findReachableStations(source, type, budget));
+    }
+
     @GetMapping("/maps")
     public ResponseEntity<MapResponse> findMap() {
         MapResponse response = mapService.findMap();
@@ -0,0 +1,25 @@
+package wooteco.subway.maps.map.ui;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import wooteco.subway.maps.map.application.PathBatchService;
+import wooteco.subway.maps.map.dto.PathRequest;
+import wooteco.subway.maps.map.dto.PathResponse;
+
+import java.util.List;
+
+@RestController
+public class PathBatchController {
+    private final PathBatchService pathBatchService;
+
+    public PathBatchController(PathBatchService pathBatchService) {
+        this.pathBatchService = pathBatchService;
+    }
+
+    @PostMapping("/paths/batch")
+    public ResponseEntity<List<PathResponse>> findPaths(@RequestBody List<PathRequest> requests) {
+        return ResponseEntity.ok(pathBatchService.findPaths(requests));
+    }
+}
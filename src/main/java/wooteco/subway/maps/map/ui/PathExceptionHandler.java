@@ -0,0 +1,14 @@
+package wooteco.subway.maps.map.ui;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 여러 경로를 한 번에 조회하는 요청의 검증 실패만 400 으로 응답한다. 다른 컨트롤러는 각자의 예외 처리를 따른다
+@RestControllerAdvice(assignableTypes = {PathBatchController.class, PathMatrixController.class})
+public class PathExceptionHandler {
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgsException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().build();
+    }
+}
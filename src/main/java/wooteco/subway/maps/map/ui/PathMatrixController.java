@@ -0,0 +1,51 @@
+package wooteco.subway.maps.map.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import wooteco.subway.maps.map.application.PathMatrixService;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.dto.PathMatrixRequest;
+import wooteco.subway.maps.map.dto.PathMatrixRowResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+public class PathMatrixController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final PathMatrixService pathMatrixService;
+    private final ObjectWriter rowWriter;
+
+    public PathMatrixController(PathMatrixService pathMatrixService, ObjectMapper objectMapper) {
+        this.pathMatrixService = pathMatrixService;
+        this.rowWriter = objectMapper.writerFor(PathMatrixRowResponse.class);
+    }
+
+    // 출발역 하나당 한 줄의 JSON 을 계산되는 대로 내보낸다
+    @PostMapping(value = "/paths/matrix", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> findPathMatrix(@RequestBody PathMatrixRequest request) {
+        SubwayNetwork network = pathMatrixService.prepareNetwork(request);
+        StreamingResponseBody body = out -> pathMatrixService.writeRows(network, request, row -> writeRow(out, row));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    private void writeRow(OutputStream out, PathMatrixRowResponse row) {
+        try {
+            out.write(rowWriter.writeValueAsBytes(row));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
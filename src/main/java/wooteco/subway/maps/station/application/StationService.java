@@ -1,6 +1,8 @@
 package wooteco.subway.maps.station.application;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
 import wooteco.subway.maps.station.domain.Station;
 import wooteco.subway.maps.station.domain.StationRepository;
 import wooteco.subway.maps.station.dto.StationCreateRequest;
@@ -16,9 +18,11 @@ import java.util.stream.Collectors;
 @Transactional
 public class StationService {
     private StationRepository stationRepository;
+    private ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Map<Long, Station> findStationsByIds(List<Long> ids) {
@@ -28,6 +32,7 @@ public class StationService {
 
     public StationResponse saveStation(StationCreateRequest request) {
         Station station = stationRepository.save(request.toStation());
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("station"));
         return StationResponse.of(station);
     }
 
@@ -38,5 +43,6 @@ public class StationService {
 
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("station"));
     }
 }
@@ -17,7 +17,7 @@ public class LoginMember implements UserDetails {
     }
 
     public boolean checkPassword(String password) {
-        return this.password.equals(password);
+        return this.password != null && this.password.equals(password);
     }
 
     public Long getId() {
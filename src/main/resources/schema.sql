@@ -0,0 +1,6 @@
+create table if not exists security_context (
+    id varchar(36) primary key,
+    principal varchar(4000) not null,
+    expires_at bigint not null
+);
+create index if not exists security_context_expires_at on security_context (expires_at);
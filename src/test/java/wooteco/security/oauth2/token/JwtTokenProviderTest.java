@@ -0,0 +1,70 @@
+package wooteco.security.oauth2.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JWT 토큰 검증 테스트")
+public class JwtTokenProviderTest {
+    private static final String SECRET_KEY = "testSecretKey";
+    private static final String PAYLOAD = "{\"id\":\"1\",\"email\":\"email@email.com\",\"age\":\"20\"}";
+
+    private AtomicLong now;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.DAYS.toMillis(18_000));
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, TimeUnit.MINUTES.toMillis(30), now::get);
+    }
+
+    @DisplayName("한 번 검증한 토큰은 두 번째부터 서명을 다시 확인하지 않고 캐시에서 찾는다.")
+    @Test
+    void findPayloadFromCache() {
+        String token = jwtTokenProvider.createToken(PAYLOAD);
+        assertThat(jwtTokenProvider.findPayload(token)).hasValue(PAYLOAD);
+
+        // 서명 키가 바뀌어도 캐시에 있는 토큰은 파싱하지 않으므로 그대로 찾는다
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "anotherSecretKey");
+
+        assertThat(jwtTokenProvider.findPayload(token)).hasValue(PAYLOAD);
+        assertThat(jwtTokenProvider.getVerifiedTokenCount()).isEqualTo(1);
+    }
+
+    @DisplayName("서명이 바뀐 토큰은 거절하고 캐시에 담지 않는다.")
+    @Test
+    void findPayloadWithTamperedToken() {
+        String token = jwtTokenProvider.createToken(PAYLOAD);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtTokenProvider.findPayload(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+        assertThat(jwtTokenProvider.getVerifiedTokenCount()).isZero();
+    }
+
+    @DisplayName("캐시에 있어도 만료된 토큰은 거절하고 캐시에서 뺀다.")
+    @Test
+    void findPayloadWithExpiredCachedToken() {
+        String token = jwtTokenProvider.createToken(PAYLOAD);
+        assertThat(jwtTokenProvider.findPayload(token)).hasValue(PAYLOAD);
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(31));
+
+        assertThat(jwtTokenProvider.findPayload(token)).isEmpty();
+        assertThat(jwtTokenProvider.getVerifiedTokenCount()).isZero();
+    }
+
+    @DisplayName("토큰이 없거나 비어 있으면 빈 값을 돌려준다.")
+    @Test
+    void findPayloadWithoutToken() {
+        assertThat(jwtTokenProvider.findPayload(null)).isEmpty();
+        assertThat(jwtTokenProvider.findPayload("")).isEmpty();
+        assertThat(jwtTokenProvider.getVerifiedTokenCount()).isZero();
+    }
+}
@@ -0,0 +1,157 @@
+package wooteco.security.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import wooteco.security.core.Authentication;
+import wooteco.security.core.AuthenticationPrincipal;
+import wooteco.security.core.context.SecurityContext;
+import wooteco.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("인증 정보 바인딩 테스트")
+public class PrincipalBinderTest {
+    private Map<String, String> principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new HashMap<>();
+        principal.put("id", "1");
+        principal.put("email", "email@email.com");
+        principal.put("age", "20");
+        principal.put("admin", "true");
+        principal.put("rating", "4.5");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("생성자 파라미터 타입에 맞게 값을 바꿔 파라미터 이름으로 넘긴다.")
+    @Test
+    void bind() throws Exception {
+        Member member = (Member) PrincipalBinder.of(Member.class).bind(principal);
+
+        assertThat(member.id).isEqualTo(1L);
+        assertThat(member.email).isEqualTo("email@email.com");
+        assertThat(member.age).isEqualTo(20);
+        assertThat(member.admin).isTrue();
+        assertThat(member.rating).isEqualTo(4.5);
+    }
+
+    @DisplayName("필드 선언 순서와 생성자 파라미터 순서가 달라도 이름으로 바인딩한다.")
+    @Test
+    void bindByParameterName() throws Exception {
+        ReorderedMember member = (ReorderedMember) PrincipalBinder.of(ReorderedMember.class).bind(principal);
+
+        assertThat(member.id).isEqualTo(1L);
+        assertThat(member.email).isEqualTo("email@email.com");
+    }
+
+    @DisplayName("public 생성자가 하나가 아니면 바인더를 만들 수 없다.")
+    @Test
+    void ofWithAmbiguousConstructors() {
+        assertThatThrownBy(() -> PrincipalBinder.of(AmbiguousMember.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("이전 값 변환 함수는 바인더와 같은 규칙으로 값을 바꾼다.")
+    @Test
+    void toObject() {
+        assertThat(AuthenticationPrincipalArgumentResolver.toObject(Long.class, "1")).isEqualTo(1L);
+        assertThat(AuthenticationPrincipalArgumentResolver.toObject(Boolean.class, "true")).isEqualTo(true);
+        assertThat(AuthenticationPrincipalArgumentResolver.toObject(String.class, "email@email.com")).isEqualTo("email@email.com");
+    }
+
+    @DisplayName("값을 바꿀 수 없으면 인가 예외를 던진다.")
+    @Test
+    void resolveArgumentWithInvalidValue() throws NoSuchMethodException {
+        principal.put("id", "not-a-number");
+        SecurityContextHolder.setContext(new SecurityContext(new Authentication(principal)));
+
+        assertThatThrownBy(() -> new AuthenticationPrincipalArgumentResolver().resolveArgument(memberParameter(), null, null, null))
+                .isInstanceOf(AuthorizationException.class);
+    }
+
+    @DisplayName("쓸 생성자를 정할 수 없는 타입이면 인가 예외를 던진다.")
+    @Test
+    void resolveArgumentWithAmbiguousConstructors() throws NoSuchMethodException {
+        SecurityContextHolder.setContext(new SecurityContext(new Authentication(principal)));
+        MethodParameter parameter = new MethodParameter(
+                getClass().getDeclaredMethod("handle", AmbiguousMember.class), 0);
+
+        assertThatThrownBy(() -> new AuthenticationPrincipalArgumentResolver().resolveArgument(parameter, null, null, null))
+                .isInstanceOf(AuthorizationException.class);
+    }
+
+    @DisplayName("파라미터마다 만든 바인더로 인증 정보를 바인딩한다.")
+    @Test
+    void resolveArgument() throws NoSuchMethodException {
+        SecurityContextHolder.setContext(new SecurityContext(new Authentication(principal)));
+        AuthenticationPrincipalArgumentResolver resolver = new AuthenticationPrincipalArgumentResolver();
+
+        Member first = (Member) resolver.resolveArgument(memberParameter(), null, null, null);
+        Member second = (Member) resolver.resolveArgument(memberParameter(), null, null, null);
+
+        assertThat(first.id).isEqualTo(1L);
+        assertThat(second.email).isEqualTo("email@email.com");
+    }
+
+    private MethodParameter memberParameter() throws NoSuchMethodException {
+        return new MethodParameter(getClass().getDeclaredMethod("handle", Member.class), 0);
+    }
+
+    private void handle(@AuthenticationPrincipal Member member) {
+    }
+
+    private void handle(@AuthenticationPrincipal AmbiguousMember member) {
+    }
+
+    public static class Member {
+        private final Long id;
+        private final String email;
+        private final Integer age;
+        private final Boolean admin;
+        private final Double rating;
+
+        public Member(Long id, String email, Integer age, Boolean admin, Double rating) {
+            this.id = id;
+            this.email = email;
+            this.age = age;
+            this.admin = admin;
+            this.rating = rating;
+        }
+    }
+
+    public static class ReorderedMember {
+        private final Long id;
+        private final String email;
+
+        public ReorderedMember(String email, Long id) {
+            this.id = id;
+            this.email = email;
+        }
+    }
+
+    public static class AmbiguousMember {
+        private final Long id;
+        private final String email;
+
+        public AmbiguousMember(Long id, String email) {
+            this.id = id;
+            this.email = email;
+        }
+
+        public AmbiguousMember(String email) {
+            this(null, email);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package wooteco.security.web.authentication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("로그인 시도 제한 테스트")
+public class LoginRateLimiterTest {
+    private AtomicLong now;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        loginRateLimiter = new LoginRateLimiter(
+                LoginRateLimiter.Limit.perMinute(3, 60),
+                LoginRateLimiter.Limit.perMinute(5, 60),
+                1000,
+                now::get
+        );
+    }
+
+    @DisplayName("같은 아이디로 용량보다 많이 시도하면 거절하고, 시간이 지나 채워진 만큼 다시 허용한다.")
+    @Test
+    void limitPrincipal() {
+        assertThat(loginRateLimiter.tryAcquire("email@email.com", "127.0.0.1")).isTrue();
+        assertThat(loginRateLimiter.tryAcquire("email@email.com", "127.0.0.2")).isTrue();
+        assertThat(loginRateLimiter.tryAcquire("email@email.com", "127.0.0.3")).isTrue();
+        assertThat(loginRateLimiter.tryAcquire("email@email.com", "127.0.0.4")).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(loginRateLimiter.tryAcquire("email@email.com", "127.0.0.5")).isTrue();
+        assertThat(loginRateLimiter.tryAcquire("email@email.com", "127.0.0.6")).isFalse();
+        assertThat(loginRateLimiter.getPermitted()).isEqualTo(4);
+        assertThat(loginRateLimiter.getRejectedByPrincipal()).isEqualTo(2);
+    }
+
+    @DisplayName("한 클라이언트가 여러 아이디로 용량보다 많이 시도하면 거절한다.")
+    @Test
+    void limitClient() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(loginRateLimiter.tryAcquire("user" + i + "@email.com", "127.0.0.1")).isTrue();
+        }
+
+        assertThat(loginRateLimiter.tryAcquire("user5@email.com", "127.0.0.1")).isFalse();
+        assertThat(loginRateLimiter.tryAcquire("user5@email.com", "127.0.0.2")).isTrue();
+        assertThat(loginRateLimiter.getRejectedByClient()).isEqualTo(1);
+    }
+
+    @DisplayName("보관하는 버킷 수는 최대 키 수를 넘지 않는다.")
+    @Test
+    void boundedKeys() {
+        LoginRateLimiter limiter = new LoginRateLimiter(
+                LoginRateLimiter.Limit.perMinute(3, 60),
+                LoginRateLimiter.Limit.perMinute(5, 60),
+                100,
+                now::get
+        );
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("user" + i + "@email.com", "10.0.0." + i);
+        }
+
+        assertThat(limiter.getKeyCount()).isLessThanOrEqualTo(100);
+    }
+
+    @DisplayName("용량과 충전 속도는 양수여야 한다.")
+    @Test
+    void invalidLimit() {
+        assertThatThrownBy(() -> LoginRateLimiter.Limit.perMinute(0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
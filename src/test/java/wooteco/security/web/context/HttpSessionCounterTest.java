@@ -0,0 +1,29 @@
+package wooteco.security.web.context;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+import javax.servlet.http.HttpSessionEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("세션 수 집계 테스트")
+public class HttpSessionCounterTest {
+    @DisplayName("세션이 만들어지면 만든 수와 살아 있는 수가 늘고, 없어지면 살아 있는 수만 준다.")
+    @Test
+    void count() {
+        HttpSessionCounter httpSessionCounter = new HttpSessionCounter();
+        HttpSessionEvent first = new HttpSessionEvent(new MockHttpSession());
+        HttpSessionEvent second = new HttpSessionEvent(new MockHttpSession());
+
+        httpSessionCounter.sessionCreated(first);
+        httpSessionCounter.sessionCreated(second);
+        assertThat(httpSessionCounter.getCreated()).isEqualTo(2);
+        assertThat(httpSessionCounter.getActive()).isEqualTo(2);
+
+        httpSessionCounter.sessionDestroyed(first);
+        assertThat(httpSessionCounter.getCreated()).isEqualTo(2);
+        assertThat(httpSessionCounter.getActive()).isEqualTo(1);
+    }
+}
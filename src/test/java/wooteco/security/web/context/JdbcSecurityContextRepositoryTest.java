@@ -0,0 +1,128 @@
+package wooteco.security.web.context;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import wooteco.security.core.Authentication;
+import wooteco.security.core.AuthenticationPrincipal;
+import wooteco.security.core.context.SecurityContext;
+import wooteco.security.core.context.SecurityContextHolder;
+import wooteco.security.web.AuthenticationPrincipalArgumentResolver;
+import wooteco.subway.members.member.domain.LoginMember;
+
+import javax.servlet.http.Cookie;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DB 에 보관하는 인증 정보 저장소 테스트")
+public class JdbcSecurityContextRepositoryTest {
+    private EmbeddedDatabase dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        dataSource.shutdown();
+    }
+
+    @DisplayName("저장한 인증 정보를 같은 DB 를 쓰는 다른 저장소에서 쿠키로 찾는다.")
+    @Test
+    void loadContextFromAnotherNode() {
+        JdbcSecurityContextRepository node1 = new JdbcSecurityContextRepository(dataSource, Duration.ofMinutes(30));
+        JdbcSecurityContextRepository node2 = new JdbcSecurityContextRepository(dataSource, Duration.ofMinutes(30));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        LoginMember loginMember = new LoginMember(1L, "email@email.com", "password", 20);
+
+        node1.saveContext(new SecurityContext(new Authentication(loginMember)), new MockHttpServletRequest(), response);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(response.getCookie(JdbcSecurityContextRepository.COOKIE_NAME));
+        SecurityContext context = node2.loadContext(request);
+
+        assertThat(context.getAuthentication().getPrincipal())
+                .asInstanceOf(InstanceOfAssertFactories.map(String.class, String.class))
+                .containsEntry("id", "1").containsEntry("email", "email@email.com").containsEntry("age", "20");
+    }
+
+    @DisplayName("DB 에서 복원한 LoginMember 는 비밀번호가 없어 비밀번호 확인을 통과하지 못한다.")
+    @Test
+    void resolveLoginMemberWithoutPassword() throws NoSuchMethodException {
+        JdbcSecurityContextRepository repository = new JdbcSecurityContextRepository(dataSource, Duration.ofMinutes(30));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveContext(new SecurityContext(new Authentication(new LoginMember(1L, "email@email.com", "password", 20))),
+                new MockHttpServletRequest(), response);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(response.getCookie(JdbcSecurityContextRepository.COOKIE_NAME));
+        SecurityContextHolder.setContext(repository.loadContext(request));
+        MethodParameter parameter = new MethodParameter(getClass().getDeclaredMethod("handle", LoginMember.class), 0);
+
+        LoginMember loginMember = (LoginMember) new AuthenticationPrincipalArgumentResolver()
+                .resolveArgument(parameter, null, null, null);
+
+        assertThat(loginMember.getId()).isEqualTo(1L);
+        assertThat(loginMember.getEmail()).isEqualTo("email@email.com");
+        assertThat(loginMember.getAge()).isEqualTo(20);
+        assertThat(loginMember.getPassword()).isNull();
+        assertThat(loginMember.checkPassword("password")).isFalse();
+        assertThat(loginMember.checkCredentials("password")).isFalse();
+    }
+
+    @DisplayName("비밀번호 같은 자격 증명은 DB 에 저장하지 않는다.")
+    @Test
+    void saveContextWithoutCredentials() {
+        JdbcSecurityContextRepository repository = new JdbcSecurityContextRepository(dataSource, Duration.ofMinutes(30));
+        LoginMember loginMember = new LoginMember(1L, "email@email.com", "password", 20);
+
+        repository.saveContext(new SecurityContext(new Authentication(loginMember)), new MockHttpServletRequest(),
+                new MockHttpServletResponse());
+
+        String principal = new JdbcTemplate(dataSource).queryForObject("select principal from security_context", String.class);
+        assertThat(principal).contains("email@email.com").doesNotContain("password", "credentials");
+    }
+
+    @DisplayName("쿠키가 없거나 모르는 아이디이면 인증 정보를 찾지 않는다.")
+    @Test
+    void loadContextWithoutCookie() {
+        JdbcSecurityContextRepository repository = new JdbcSecurityContextRepository(dataSource, Duration.ofMinutes(30));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThat(repository.loadContext(request)).isNull();
+        request.setCookies(new Cookie(JdbcSecurityContextRepository.COOKIE_NAME, "unknown"));
+        assertThat(repository.loadContext(request)).isNull();
+    }
+
+    @DisplayName("만료된 인증 정보는 찾지 않고, 정리할 때 지운다.")
+    @Test
+    void deleteExpired() {
+        JdbcSecurityContextRepository repository = new JdbcSecurityContextRepository(dataSource, Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveContext(new SecurityContext(new Authentication(new LoginMember(1L, "email@email.com", "password", 20))),
+                new MockHttpServletRequest(), response);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(response.getCookie(JdbcSecurityContextRepository.COOKIE_NAME));
+
+        assertThat(repository.loadContext(request)).isNull();
+        assertThat(repository.deleteExpired()).isEqualTo(1);
+    }
+
+    private void handle(@AuthenticationPrincipal LoginMember loginMember) {
+    }
+}
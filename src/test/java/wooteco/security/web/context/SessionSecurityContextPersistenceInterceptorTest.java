@@ -0,0 +1,48 @@
+package wooteco.security.web.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import wooteco.security.core.Authentication;
+import wooteco.security.core.context.SecurityContext;
+import wooteco.security.core.context.SecurityContextHolder;
+import wooteco.subway.members.member.domain.LoginMember;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("세션으로 인증 정보를 복원하는 인터셉터 테스트")
+public class SessionSecurityContextPersistenceInterceptorTest {
+    private final SessionSecurityContextPersistenceInterceptor interceptor =
+            new SessionSecurityContextPersistenceInterceptor(new HttpSessionSecurityContextRepository());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("로그인하지 않은 요청에는 세션을 만들지 않는다.")
+    @Test
+    void preHandleWithoutSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+        assertThat(request.getSession(false)).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @DisplayName("세션에 저장한 인증 정보를 복원한다.")
+    @Test
+    void preHandleWithSession() {
+        LoginMember loginMember = new LoginMember(1L, "email@email.com", "password", 20);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        new HttpSessionSecurityContextRepository().saveContext(new SecurityContext(new Authentication(loginMember)),
+                request, new MockHttpServletResponse());
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(loginMember);
+    }
+}
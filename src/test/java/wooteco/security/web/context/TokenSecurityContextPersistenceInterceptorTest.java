@@ -0,0 +1,65 @@
+package wooteco.security.web.context;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import wooteco.security.core.context.SecurityContextHolder;
+import wooteco.security.oauth2.authentication.AuthorizationExtractor;
+import wooteco.security.oauth2.token.JwtTokenProvider;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("토큰으로 인증 정보를 복원하는 인터셉터 테스트")
+public class TokenSecurityContextPersistenceInterceptorTest {
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenSecurityContextPersistenceInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        interceptor = new TokenSecurityContextPersistenceInterceptor(jwtTokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("토큰의 payload 로 인증 정보를 만든다.")
+    @Test
+    void preHandle() {
+        when(jwtTokenProvider.findPayload("token"))
+                .thenReturn(Optional.of("{\"id\":\"1\",\"email\":\"email@email.com\",\"age\":\"20\"}"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION, "Bearer token");
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .asInstanceOf(InstanceOfAssertFactories.map(String.class, String.class))
+                .containsEntry("id", "1").containsEntry("email", "email@email.com").containsEntry("age", "20");
+        verify(jwtTokenProvider).findPayload("token");
+    }
+
+    @DisplayName("유효하지 않은 토큰이면 인증 정보를 만들지 않고 요청은 그대로 진행한다.")
+    @Test
+    void preHandleWithInvalidToken() {
+        when(jwtTokenProvider.findPayload(anyString())).thenReturn(Optional.empty());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION, "Bearer invalid");
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
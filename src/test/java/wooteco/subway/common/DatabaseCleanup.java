@@ -2,9 +2,12 @@ package wooteco.subway.common;
 
 import com.google.common.base.CaseFormat;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
@@ -17,6 +20,8 @@ import java.util.stream.Collectors;
 public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     private List<String> tableNames;
 
@@ -39,5 +44,6 @@ public class DatabaseCleanup implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent("cleanup"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package wooteco.subway.common.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import wooteco.security.core.userdetails.UserDetailsService;
+import wooteco.security.oauth2.token.JwtTokenProvider;
+import wooteco.security.web.authentication.TokenAuthenticationInterceptor;
+import wooteco.security.web.authentication.UsernamePasswordAuthenticationInterceptor;
+import wooteco.security.web.context.SessionSecurityContextPersistenceInterceptor;
+import wooteco.security.web.context.TokenSecurityContextPersistenceInterceptor;
+
+import javax.sql.DataSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("보안 설정 테스트")
+public class SecurityConfigTest {
+    private SecurityConfig securityConfig;
+    private InterceptorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        securityConfig = new SecurityConfig(mock(JwtTokenProvider.class), mock(UserDetailsService.class), mock(DataSource.class));
+        registry = spy(new InterceptorRegistry());
+    }
+
+    @DisplayName("세션을 쓰면 세션 로그인과 세션 인증 정보 복원 인터셉터를 등록한다.")
+    @Test
+    void addInterceptors() {
+        securityConfig.addInterceptors(registry);
+
+        verify(registry).addInterceptor(any(UsernamePasswordAuthenticationInterceptor.class));
+        verify(registry).addInterceptor(any(SessionSecurityContextPersistenceInterceptor.class));
+        verify(registry).addInterceptor(any(TokenAuthenticationInterceptor.class));
+        verify(registry).addInterceptor(any(TokenSecurityContextPersistenceInterceptor.class));
+    }
+
+    @DisplayName("세션을 쓰지 않으면 /login/session 과 세션 인증 정보 복원 인터셉터를 등록하지 않는다.")
+    @Test
+    void addInterceptorsWhenStateless() {
+        ReflectionTestUtils.setField(securityConfig, "stateless", true);
+
+        securityConfig.addInterceptors(registry);
+
+        verify(registry, never()).addInterceptor(any(UsernamePasswordAuthenticationInterceptor.class));
+        verify(registry, never()).addInterceptor(any(SessionSecurityContextPersistenceInterceptor.class));
+        verify(registry).addInterceptor(any(TokenAuthenticationInterceptor.class));
+        verify(registry).addInterceptor(any(TokenSecurityContextPersistenceInterceptor.class));
+    }
+}
@@ -0,0 +1,78 @@
+package wooteco.subway.maps.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.map.domain.CompactSubwayGraph;
+import wooteco.subway.maps.map.domain.PathType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("가상 노선도 생성 테스트")
+public class SyntheticNetworkGeneratorTest {
+    @DisplayName("요청한 수의 노선을 만들고 모든 역을 노선에 배치한다.")
+    @Test
+    void createLines() {
+        SyntheticNetworkGenerator generator = new SyntheticNetworkGenerator(10, 20, 4, 1L);
+
+        List<Line> lines = generator.createLines(createStationIds(300));
+
+        assertThat(lines).hasSize(10);
+        assertThat(lines.stream().mapToInt(it -> it.getStationInOrder().size()).sum()).isEqualTo(280 + 10 * 4);
+    }
+
+    @DisplayName("만들어진 노선도는 환승역으로 모두 연결되어 있다.")
+    @Test
+    void connected() {
+        SyntheticNetworkGenerator generator = new SyntheticNetworkGenerator(10, 20, 4, 1L);
+        List<Line> lines = generator.createLines(createStationIds(300));
+        for (int i = 0; i < lines.size(); i++) {
+            ReflectionTestUtils.setField(lines.get(i), "id", (long) i + 1);
+        }
+
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DISTANCE);
+        Long source = lines.get(0).getStationInOrder().get(0).getStationId();
+        Long target = lines.get(9).getStationInOrder().get(0).getStationId();
+
+        assertThat(graph.findPath(source, target)).isNotNull();
+    }
+
+    @DisplayName("같은 seed 로는 같은 노선도를 만든다.")
+    @Test
+    void sameSeed() {
+        List<Line> first = new SyntheticNetworkGenerator(5, 10, 3, 7L).createLines(createStationIds(100));
+        List<Line> second = new SyntheticNetworkGenerator(5, 10, 3, 7L).createLines(createStationIds(100));
+
+        assertThat(describe(first)).isEqualTo(describe(second));
+    }
+
+    @DisplayName("환승역과 노선 수보다 역이 적으면 노선도를 만들 수 없다.")
+    @Test
+    void notEnoughStations() {
+        SyntheticNetworkGenerator generator = new SyntheticNetworkGenerator(10, 20, 4, 1L);
+
+        assertThatThrownBy(() -> generator.createLines(createStationIds(25)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> describe(List<Line> lines) {
+        return lines.stream()
+                .flatMap(it -> it.getStationInOrder().stream())
+                .map(it -> it.getStationId() + ":" + it.getPreStationId() + ":" + it.getDistance() + ":" + it.getDuration())
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> createStationIds(int count) {
+        List<Long> stationIds = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            stationIds.add(id);
+        }
+        return stationIds;
+    }
+}
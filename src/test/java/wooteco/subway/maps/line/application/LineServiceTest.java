@@ -10,6 +10,7 @@ import wooteco.subway.maps.station.domain.Station;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Map;
 import java.util.Optional;
@@ -42,9 +43,10 @@ public class LineServiceTest {
     void findLineResponsesById() {
         LineRepository lineRepository = mock(LineRepository.class);
         StationService stationService = mock(StationService.class);
-        LineService lineService = new LineService(lineRepository, stationService);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        LineService lineService = new LineService(lineRepository, stationService, eventPublisher);
 
-        when(lineRepository.findById(anyLong())).thenReturn(Optional.of(line));
+        when(lineRepository.findByIdWithLineStations(anyLong())).thenReturn(Optional.of(line));
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
 
         LineResponse result = lineService.findLineResponsesById(line.getId());
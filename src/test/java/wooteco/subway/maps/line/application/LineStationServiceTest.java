@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.HashMap;
@@ -31,12 +32,14 @@ public class LineStationServiceTest {
     private LineService lineService;
     @Mock
     private StationService stationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private LineStationService lineStationService;
 
     @BeforeEach
     void setUp() {
-        lineStationService = new LineStationService(lineService, stationService);
+        lineStationService = new LineStationService(lineService, stationService, eventPublisher);
     }
 
     @DisplayName("지하철 노선에 역을 등록한다.")
@@ -0,0 +1,85 @@
+package wooteco.subway.maps.line.domain;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선 조회 쿼리 수 테스트")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class LineRepositoryTest {
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @DisplayName("노선 수와 관계없이 구간까지 한 번의 쿼리로 조회한다.")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void findAllWithLineStations(int lineCount) {
+        // given
+        saveLines(lineCount);
+        statistics.clear();
+
+        // when
+        List<Line> lines = lineRepository.findAllWithLineStations();
+        int lineStationCount = lines.stream()
+                .mapToInt(it -> it.getStationInOrder().size())
+                .sum();
+
+        // then
+        assertThat(lines).hasSize(lineCount);
+        assertThat(lineStationCount).isEqualTo(lineCount * 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("노선 하나를 구간까지 한 번의 쿼리로 조회한다.")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void findByIdWithLineStations(int lineCount) {
+        // given
+        List<Line> saved = saveLines(lineCount);
+        statistics.clear();
+
+        // when
+        Line line = lineRepository.findByIdWithLineStations(saved.get(0).getId()).orElseThrow(RuntimeException::new);
+
+        // then
+        assertThat(line.getStationInOrder()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private List<Line> saveLines(int lineCount) {
+        List<Line> lines = new ArrayList<>();
+        for (long i = 1; i <= lineCount; i++) {
+            Line line = new Line(i + "호선", "GREEN", LocalTime.of(5, 30), LocalTime.of(23, 30), 10);
+            line.addLineStation(new LineStation(i * 10 + 1, null, 0, 0));
+            line.addLineStation(new LineStation(i * 10 + 2, i * 10 + 1, 2, 2));
+            line.addLineStation(new LineStation(i * 10 + 3, i * 10 + 2, 2, 2));
+            lines.add(lineRepository.save(line));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return lines;
+    }
+}
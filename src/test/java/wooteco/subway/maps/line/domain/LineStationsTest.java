@@ -98,4 +98,38 @@ public class LineStationsTest {
         assertThatThrownBy(() -> lineStations.removeByStationId(100L))
                 .isInstanceOf(RuntimeException.class);
     }
+
+    @DisplayName("역 아이디가 127보다 커도 순서대로 조회한다.")
+    @Test
+    void getStationsInOrderWithLargeId() {
+        // given
+        LineStations lineStations = new LineStations();
+        lineStations.add(new LineStation(1000L, null, 0, 0));
+        lineStations.add(new LineStation(2000L, 1000L, 10, 4));
+        lineStations.add(new LineStation(3000L, 2000L, 10, 5));
+        lineStations.add(new LineStation(4000L, 1000L, 10, 5));
+
+        // when
+        lineStations.removeByStationId(2000L);
+
+        // then
+        List<Long> stationIds = lineStations.getStationsInOrder().stream()
+                .map(it -> it.getStationId())
+                .collect(Collectors.toList());
+        assertThat(stationIds).containsExactly(1000L, 4000L, 3000L);
+    }
+
+    @DisplayName("구간이 바뀌지 않으면 정렬된 목록을 재사용하고, 바뀌면 다시 정렬한다.")
+    @Test
+    void cacheStationsInOrder() {
+        // when
+        List<LineStation> first = lineStations.getStationsInOrder();
+        List<LineStation> second = lineStations.getStationsInOrder();
+        lineStations.add(new LineStation(4L, null, 10, 10));
+        List<LineStation> third = lineStations.getStationsInOrder();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).extracting("stationId").containsExactly(4L, 1L, 2L, 3L);
+    }
 }
@@ -0,0 +1,62 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
+import wooteco.subway.maps.line.application.LineService;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.domain.PathEngine;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("축약 계층 백그라운드 전처리 테스트")
+public class ContractionHierarchyServiceTest {
+    private SubwayNetworkService subwayNetworkService;
+    private ContractionHierarchyService contractionHierarchyService;
+
+    @BeforeEach
+    void setUp() {
+        Line line = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line.addLineStation(new LineStation(1L, null, 0, 0));
+        line.addLineStation(new LineStation(2L, 1L, 2, 2));
+        line.addLineStation(new LineStation(3L, 2L, 3, 1));
+
+        LineService lineService = mock(LineService.class);
+        when(lineService.findLines()).thenReturn(Lists.newArrayList(line));
+
+        subwayNetworkService = new SubwayNetworkService(lineService);
+        contractionHierarchyService = new ContractionHierarchyService(subwayNetworkService, Runnable::run);
+    }
+
+    @DisplayName("CH 엔진이 아니면 축약 계층을 만들지 않는다.")
+    @Test
+    void skipWithOtherEngine() {
+        contractionHierarchyService.onChanged(new SubwayNetworkChangedEvent("test"));
+
+        assertThat(subwayNetworkService.getNetwork().findContractionHierarchy(PathType.DISTANCE)).isEmpty();
+    }
+
+    @DisplayName("노선 정보가 바뀌면 새 스냅샷의 축약 계층을 만든다.")
+    @Test
+    void buildOnChange() {
+        ReflectionTestUtils.setField(contractionHierarchyService, "engine", PathEngine.CH);
+        SubwayNetwork before = subwayNetworkService.getNetwork();
+
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("test"));
+        contractionHierarchyService.onChanged(new SubwayNetworkChangedEvent("test"));
+
+        SubwayNetwork after = subwayNetworkService.getNetwork();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.findContractionHierarchy(PathType.DISTANCE)).isPresent();
+        assertThat(after.findContractionHierarchy(PathType.DURATION).get().findPath(1L, 3L).calculateDuration()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,76 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
+import wooteco.subway.maps.line.application.LineService;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("막차 표 백그라운드 전처리 테스트")
+public class LastTrainTableServiceTest {
+    private SubwayNetworkService subwayNetworkService;
+    private LastTrainTableService lastTrainTableService;
+
+    @BeforeEach
+    void setUp() {
+        Line line = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line.addLineStation(new LineStation(1L, null, 0, 0));
+        line.addLineStation(new LineStation(2L, 1L, 2, 2));
+        line.addLineStation(new LineStation(3L, 2L, 3, 1));
+
+        LineService lineService = mock(LineService.class);
+        when(lineService.findLines()).thenReturn(Lists.newArrayList(line));
+
+        subwayNetworkService = new SubwayNetworkService(lineService);
+        lastTrainTableService = new LastTrainTableService(subwayNetworkService, Runnable::run);
+        ReflectionTestUtils.setField(lastTrainTableService, "enabled", true);
+    }
+
+    @DisplayName("노선 정보가 바뀌면 새 스냅샷의 막차 표를 만든다.")
+    @Test
+    void buildOnChange() {
+        SubwayNetwork before = subwayNetworkService.getNetwork();
+
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("test"));
+        lastTrainTableService.onChanged(new SubwayNetworkChangedEvent("test"));
+
+        SubwayNetwork after = subwayNetworkService.getNetwork();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.findLastTrainTable()).isPresent();
+        assertThat(after.findLastTrainTable().get().findLatestDeparture(1L, 3L)).contains(LocalTime.of(23, 30));
+    }
+
+    @DisplayName("막차 표를 켜지 않으면 노선 정보가 바뀌어도 만들지 않는다.")
+    @Test
+    void skipWhenDisabled() {
+        ReflectionTestUtils.setField(lastTrainTableService, "enabled", false);
+
+        lastTrainTableService.onReady();
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("test"));
+        lastTrainTableService.onChanged(new SubwayNetworkChangedEvent("test"));
+
+        assertThat(subwayNetworkService.getNetwork().findLastTrainTable()).isEmpty();
+    }
+
+    @DisplayName("역이 너무 많으면 막차 표를 만들지 않는다.")
+    @Test
+    void skipLargeNetwork() {
+        ReflectionTestUtils.setField(lastTrainTableService, "maxStations", 2);
+
+        lastTrainTableService.onChanged(new SubwayNetworkChangedEvent("test"));
+
+        assertThat(subwayNetworkService.getNetwork().findLastTrainTable()).isEmpty();
+    }
+}
@@ -13,17 +13,24 @@ import wooteco.subway.maps.line.domain.Line;
 import wooteco.subway.maps.line.domain.LineStation;
 import wooteco.subway.maps.map.domain.LineStationEdge;
 import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
 import wooteco.subway.maps.map.domain.SubwayPath;
+import wooteco.subway.maps.map.dto.JourneyResponse;
+import wooteco.subway.maps.map.dto.LastTrainResponse;
 import wooteco.subway.maps.map.dto.MapResponse;
 import wooteco.subway.maps.map.dto.PathResponse;
 import wooteco.subway.maps.station.application.StationService;
 import wooteco.subway.maps.station.domain.Station;
+import wooteco.subway.maps.station.dto.StationResponse;
 
+import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +43,8 @@ public class MapServiceTest {
     private StationService stationService;
     @Mock
     private PathService pathService;
+    @Mock
+    private SubwayNetworkService subwayNetworkService;
 
     private Map<Long, Station> stations;
     private List<Line> lines;
@@ -88,13 +97,13 @@ public class MapServiceTest {
         subwayPathWithExtraFareLine = new SubwayPath(Lists.newArrayList(
                 new LineStationEdge(lineStation3, lineWithFare.getId())));
 
-        mapService = new MapService(lineService, stationService, pathService);
+        mapService = new MapService(lineService, stationService, pathService, subwayNetworkService, new PathResponseCache(100));
     }
 
     @Test
     void findPath() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPath);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPath);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
 
         PathResponse pathResponse = mapService.findPath(1L, 3L, PathType.DISTANCE);
@@ -105,6 +114,115 @@ public class MapServiceTest {
         assertThat(pathResponse.getFare()).isNotZero();
     }
 
+    @DisplayName("같은 구간을 지나는 추가 요금 노선이 있어도 환승을 줄이려고 요금이 오르는 노선으로 바꾸지 않는다.")
+    @Test
+    void findPathKeepsFareWithParallelExtraFareLine() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 5, 3));
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(2L, null, 0, 0));
+        line3.addLineStation(new LineStation(3L, 2L, 5, 3));
+        Line parallelLine = TestObjectUtils.createLineWithExtraFare(4L, "신분당선", "RED", 900);
+        parallelLine.addLineStation(new LineStation(1L, null, 0, 0));
+        parallelLine.addLineStation(new LineStation(2L, 1L, 5, 3));
+        parallelLine.addLineStation(new LineStation(3L, 2L, 5, 3));
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, Lists.newArrayList(line1, line3, parallelLine)));
+        when(stationService.findStationsByIds(anyList())).thenReturn(stations);
+        mapService = new MapService(lineService, stationService, new PathService(), subwayNetworkService, new PathResponseCache(100));
+
+        PathResponse pathResponse = mapService.findPath(1L, 3L, PathType.DISTANCE);
+
+        assertThat(pathResponse.getStations()).extracting(StationResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(pathResponse.getDistance()).isEqualTo(10);
+        assertThat(pathResponse.getDuration()).isEqualTo(6);
+        assertThat(pathResponse.getFare()).isEqualTo(1250);
+    }
+
+    @DisplayName("경로의 환승 횟수와 환승역을 함께 응답한다.")
+    @Test
+    void findPathWithTransfer() {
+        SubwayPath transferPath = new SubwayPath(Lists.newArrayList(
+                subwayPathWith2Distance.getLineStationEdges().get(0),
+                subwayPathWithExtraFareLine.getLineStationEdges().get(0)));
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(transferPath);
+        when(stationService.findStationsByIds(anyList())).thenReturn(stations);
+
+        PathResponse pathResponse = mapService.findPath(1L, 3L, PathType.DURATION);
+
+        assertThat(pathResponse.getTransferCount()).isEqualTo(1);
+        assertThat(pathResponse.getTransferStations()).extracting(StationResponse::getName).containsExactly("강남역");
+    }
+
+    @DisplayName("대안 경로를 짧은 순서대로 요금과 함께 응답한다.")
+    @Test
+    void findAlternativePaths() {
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(stationService.findStationsByIds(anyList())).thenReturn(stations);
+
+        List<PathResponse> responses = mapService.findAlternativePaths(1L, 3L, PathType.DISTANCE, 3);
+
+        assertThat(responses).hasSize(2);
+        assertThat(responses).extracting(PathResponse::getDistance).containsExactly(2, 95);
+        assertThat(responses.get(0).getFare()).isEqualTo(1750);
+    }
+
+    @DisplayName("대안 경로 수가 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void findAlternativePathsWithInvalidCount() {
+        assertThatThrownBy(() -> mapService.findAlternativePaths(1L, 3L, PathType.DISTANCE, MapService.MAX_ALTERNATIVE_COUNT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("서로 지배하지 않는 경로들을 각각의 요금, 환승 횟수와 함께 응답한다.")
+    @Test
+    void findParetoPaths() {
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findParetoPaths(any(SubwayNetwork.class), anyLong(), anyLong()))
+                .thenReturn(Lists.newArrayList(subwayPathWithExtraFareLine, subwayPathWith35Distance));
+        when(stationService.findStationsByIds(anyList())).thenReturn(stations);
+
+        List<PathResponse> responses = mapService.findParetoPaths(1L, 3L);
+
+        assertThat(responses).extracting(PathResponse::getFare).containsExactly(1750, 1750);
+        assertThat(responses).extracting(PathResponse::getDistance).containsExactly(0, 35);
+    }
+
+    @DisplayName("출발 시각 이후 가장 일찍 도착하는 여정을 도착 시각, 요금과 함께 응답한다.")
+    @Test
+    void findJourney() {
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(stationService.findStationsByIds(anyList())).thenReturn(stations);
+
+        Optional<JourneyResponse> response = mapService.findJourney(1L, 3L, LocalTime.of(6, 0));
+
+        assertThat(response).isPresent();
+        assertThat(response.get().getArrivalTime()).isEqualTo(LocalTime.of(6, 0));
+        assertThat(response.get().getPath().getStations()).extracting(StationResponse::getName)
+                .containsExactly("교대역", "강남역", "양재역");
+        assertThat(response.get().getPath().getFare()).isEqualTo(1750);
+    }
+
+    @DisplayName("막차가 끊긴 뒤에는 여정을 찾지 못한다.")
+    @Test
+    void findJourneyAfterLastTrain() {
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+
+        assertThat(mapService.findJourney(1L, 3L, LocalTime.of(23, 45))).isEmpty();
+    }
+
+    @DisplayName("막차 표가 없으면 도착역의 막차 시각을 바로 계산해 응답한다.")
+    @Test
+    void findLastTrain() {
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+
+        LastTrainResponse response = mapService.findLastTrain(1L, 3L, LocalTime.of(23, 40));
+
+        assertThat(response.isReachable()).isFalse();
+        assertThat(response.getLatestDepartureTime()).isEqualTo(LocalTime.of(23, 30));
+    }
+
     @Test
     void findMap() {
         when(lineService.findLines()).thenReturn(lines);
@@ -119,8 +237,8 @@ public class MapServiceTest {
     @DisplayName("노선의 추가 요금이 없고 할인 혜택이 없으며 총 이동 거리가 10km 이하 때 일 때, 요금은 1250원이다")
     @Test
     void showFareByDistance() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPathWith2Distance);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPathWith2Distance);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
         int expected = 1250;
 
@@ -132,8 +250,8 @@ public class MapServiceTest {
     @DisplayName("노선의 추가 요금이 없고 할인 혜택이 없으며 총 이동 거리가 35km 일 때, 요금은 1750원이다")
     @Test
     void showFareByDistance1() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPathWith35Distance);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPathWith35Distance);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
         int expected = 1750;
 
@@ -145,8 +263,8 @@ public class MapServiceTest {
     @DisplayName("노선의 추가 요금이 없고 할인 혜택이 없으며 총 이동 거리가 60km 일 때, 요금은 2250원이다")
     @Test
     void showFareByDistance2() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPathWith60Distance);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPathWith60Distance);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
         int expected = 2250;
 
@@ -158,9 +276,8 @@ public class MapServiceTest {
     @DisplayName("노선의 추가 요금이 500원이 할인 혜택이 없으며 총 이동 거리가 10km 이하 때 일 때, 요금은 1750원이다")
     @Test
     void showFareByLine() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(lineService.findLineById(any())).thenReturn(lineWithFare);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPathWithExtraFareLine);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPathWithExtraFareLine);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
         int expected = 1750;
 
@@ -172,8 +289,8 @@ public class MapServiceTest {
     @DisplayName("기본 요금에서 청소년 할인을 받으면 요금은 720원이다")
     @Test
     void showFareByYouth() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPath);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPath);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
         int expected = 720;
 
@@ -185,8 +302,8 @@ public class MapServiceTest {
     @DisplayName("기본 요금에서 어린이 할인을 받으면 요금은 450원이다")
     @Test
     void showFareByChild() {
-        when(lineService.findLines()).thenReturn(lines);
-        when(pathService.findPath(anyList(), anyLong(), anyLong(), any())).thenReturn(subwayPath);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, lines));
+        when(pathService.findPath(any(SubwayNetwork.class), anyLong(), anyLong(), any())).thenReturn(subwayPath);
         when(stationService.findStationsByIds(anyList())).thenReturn(stations);
         int expected = 450;
 
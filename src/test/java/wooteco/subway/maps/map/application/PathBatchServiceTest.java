@@ -0,0 +1,124 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.dto.PathRequest;
+import wooteco.subway.maps.map.dto.PathResponse;
+import wooteco.subway.maps.station.application.StationService;
+import wooteco.subway.maps.station.domain.Station;
+import wooteco.subway.maps.station.dto.StationResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("여러 경로 한 번에 조회 테스트")
+public class PathBatchServiceTest {
+    private StationService stationService;
+    private ForkJoinPool pathSearchPool;
+    private PathBatchService pathBatchService;
+
+    @BeforeEach
+    void setUp() {
+        Map<Long, Station> stations = new HashMap<>();
+        stations.put(1L, TestObjectUtils.createStation(1L, "교대역"));
+        stations.put(2L, TestObjectUtils.createStation(2L, "강남역"));
+        stations.put(3L, TestObjectUtils.createStation(3L, "양재역"));
+        stations.put(4L, TestObjectUtils.createStation(4L, "남부터미널역"));
+
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLineWithExtraFare(2L, "신분당선", "RED", 500);
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        SubwayNetworkService subwayNetworkService = mock(SubwayNetworkService.class);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, Lists.newArrayList(line1, line2, line3)));
+        stationService = mock(StationService.class);
+        when(stationService.findStationsByIds(anyList())).thenReturn(stations);
+
+        pathSearchPool = new ForkJoinPool(2);
+        pathBatchService = new PathBatchService(subwayNetworkService, new PathService(), stationService, pathSearchPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathSearchPool.shutdown();
+    }
+
+    @DisplayName("요청 순서대로 경로를 응답하고 역은 한 번만 조회한다.")
+    @Test
+    void findPaths() {
+        List<PathRequest> requests = Lists.newArrayList(
+                new PathRequest(1L, 3L, PathType.DISTANCE),
+                new PathRequest(1L, 3L, PathType.DURATION),
+                new PathRequest(4L, 2L, PathType.DISTANCE));
+
+        List<PathResponse> responses = pathBatchService.findPaths(requests);
+
+        assertThat(responses).hasSize(3);
+        assertThat(stationIdsOf(responses.get(0))).containsExactly(1L, 4L, 3L);
+        assertThat(stationIdsOf(responses.get(1))).containsExactly(1L, 2L, 3L);
+        assertThat(responses.get(0).getFare()).isEqualTo(1250);
+        assertThat(responses.get(1).getFare()).isEqualTo(1750);
+        verify(stationService, times(1)).findStationsByIds(anyList());
+    }
+
+    @DisplayName("최대 개수보다 많은 경로를 한 번에 요청하면 탐색하지 않고 거절한다.")
+    @Test
+    void findPathsOverMaxBatchSize() {
+        ReflectionTestUtils.setField(pathBatchService, "maxBatchSize", 2);
+        List<PathRequest> requests = Collections.nCopies(3, new PathRequest(1L, 3L, PathType.DISTANCE));
+
+        assertThatThrownBy(() -> pathBatchService.findPaths(requests))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pathBatchService.findPaths(new ArrayList<>()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(stationService, never()).findStationsByIds(anyList());
+    }
+
+    @DisplayName("출발역, 도착역, 경로 타입 중 하나라도 빠진 요청이 있으면 거절한다.")
+    @Test
+    void findPathsWithIncompleteRequest() {
+        List<PathRequest> requests = Lists.newArrayList(
+                new PathRequest(1L, 3L, PathType.DISTANCE),
+                new PathRequest(1L, 3L, null));
+
+        assertThatThrownBy(() -> pathBatchService.findPaths(requests))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pathBatchService.findPaths(Lists.newArrayList(new PathRequest(null, 3L, PathType.DISTANCE))))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(stationService, never()).findStationsByIds(anyList());
+    }
+
+    private List<Long> stationIdsOf(PathResponse response) {
+        return response.getStations().stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+    }
+}
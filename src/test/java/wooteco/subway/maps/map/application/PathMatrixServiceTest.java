@@ -0,0 +1,110 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+import wooteco.subway.maps.map.dto.PathMatrixCellResponse;
+import wooteco.subway.maps.map.dto.PathMatrixRequest;
+import wooteco.subway.maps.map.dto.PathMatrixRowResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("경로 행렬 조회 테스트")
+public class PathMatrixServiceTest {
+    private ForkJoinPool pathSearchPool;
+    private PathMatrixService pathMatrixService;
+
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLineWithExtraFare(2L, "신분당선", "RED", 500);
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        SubwayNetworkService subwayNetworkService = mock(SubwayNetworkService.class);
+        when(subwayNetworkService.getNetwork()).thenReturn(SubwayNetwork.of(1L, Lists.newArrayList(line1, line2, line3)));
+
+        pathSearchPool = new ForkJoinPool(2);
+        pathMatrixService = new PathMatrixService(subwayNetworkService, pathSearchPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathSearchPool.shutdown();
+    }
+
+    @DisplayName("출발역 순서대로 도착역마다 거리, 시간, 요금을 응답한다.")
+    @Test
+    void writeRows() {
+        PathMatrixRequest request = new PathMatrixRequest(
+                Lists.newArrayList(1L, 2L, 3L, 4L), Lists.newArrayList(3L, 1L), PathType.DURATION);
+
+        List<PathMatrixRowResponse> rows = new ArrayList<>();
+        pathMatrixService.writeRows(pathMatrixService.prepareNetwork(request), request, rows::add);
+
+        assertThat(rows).extracting(PathMatrixRowResponse::getSource).containsExactly(1L, 2L, 3L, 4L);
+        PathMatrixCellResponse cell = rows.get(0).getCells().get(0);
+        assertThat(cell.getTarget()).isEqualTo(3L);
+        assertThat(cell.getDistance()).isEqualTo(4);
+        assertThat(cell.getDuration()).isEqualTo(3);
+        assertThat(cell.getFare()).isEqualTo(1750);
+        assertThat(rows.get(3).getCells().stream().map(PathMatrixCellResponse::getDuration).collect(Collectors.toList()))
+                .containsExactly(2, 2);
+    }
+
+    @DisplayName("노선도에 없는 역이 있으면 응답을 쓰기 전에 실패한다.")
+    @Test
+    void prepareNetworkWithUnknownStation() {
+        PathMatrixRequest request = new PathMatrixRequest(
+                Lists.newArrayList(1L), Lists.newArrayList(100L), PathType.DISTANCE);
+
+        assertThatThrownBy(() -> pathMatrixService.prepareNetwork(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("출발역 수와 도착역 수의 곱이 최대 크기를 넘으면 탐색하지 않고 거절한다.")
+    @Test
+    void prepareNetworkOverMaxCells() {
+        ReflectionTestUtils.setField(pathMatrixService, "maxCells", 4L);
+        PathMatrixRequest request = new PathMatrixRequest(
+                Lists.newArrayList(1L, 2L, 3L), Lists.newArrayList(3L, 1L), PathType.DURATION);
+
+        assertThatThrownBy(() -> pathMatrixService.prepareNetwork(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("출발역, 도착역, 경로 타입 중 하나라도 빠지면 거절한다.")
+    @Test
+    void prepareNetworkWithIncompleteRequest() {
+        assertThatThrownBy(() -> pathMatrixService.prepareNetwork(
+                new PathMatrixRequest(Lists.newArrayList(1L), Lists.newArrayList(3L), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pathMatrixService.prepareNetwork(
+                new PathMatrixRequest(new ArrayList<>(), Lists.newArrayList(3L), PathType.DISTANCE)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
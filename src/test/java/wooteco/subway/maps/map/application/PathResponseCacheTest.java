@@ -0,0 +1,70 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.dto.PathResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("경로 응답 캐시 테스트")
+public class PathResponseCacheTest {
+    private PathResponseCache pathResponseCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        pathResponseCache = new PathResponseCache(2);
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("같은 버전의 같은 경로는 다시 계산하지 않는다.")
+    @Test
+    void hit() {
+        PathResponse first = pathResponseCache.get(1L, 1L, 3L, PathType.DISTANCE, this::load);
+        PathResponse second = pathResponseCache.get(1L, 1L, 3L, PathType.DISTANCE, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(pathResponseCache.getStats().hitCount()).isEqualTo(1);
+        assertThat(pathResponseCache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("노선도 버전이나 조회 기준이 다르면 새로 계산한다.")
+    @Test
+    void missByKey() {
+        pathResponseCache.get(1L, 1L, 3L, PathType.DISTANCE, this::load);
+        pathResponseCache.get(2L, 1L, 3L, PathType.DISTANCE, this::load);
+        pathResponseCache.get(2L, 1L, 3L, PathType.DURATION, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @DisplayName("최대 크기를 넘으면 오래된 응답을 내보낸다.")
+    @Test
+    void eviction() {
+        pathResponseCache.get(1L, 1L, 2L, PathType.DISTANCE, this::load);
+        pathResponseCache.get(1L, 1L, 3L, PathType.DISTANCE, this::load);
+        pathResponseCache.get(1L, 1L, 4L, PathType.DISTANCE, this::load);
+
+        assertThat(pathResponseCache.getStats().evictionCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @DisplayName("응답을 만드는 중 발생한 예외는 그대로 전달한다.")
+    @Test
+    void propagateException() {
+        assertThatThrownBy(() -> pathResponseCache.get(1L, 1L, 100L, PathType.DISTANCE, () -> {
+            throw new IllegalArgumentException();
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PathResponse load() {
+        loadCount.incrementAndGet();
+        return new PathResponse(Lists.newArrayList(), 1, 1, 1250);
+    }
+}
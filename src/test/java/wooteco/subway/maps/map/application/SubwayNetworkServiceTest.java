@@ -0,0 +1,122 @@
+package wooteco.subway.maps.map.application;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.common.domain.SubwayNetworkChangedEvent;
+import wooteco.subway.maps.line.application.LineService;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.domain.PathType;
+import wooteco.subway.maps.map.domain.SubwayNetwork;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("경로 탐색 그래프 스냅샷 테스트")
+public class SubwayNetworkServiceTest {
+    private LineService lineService;
+    private SubwayNetworkService subwayNetworkService;
+
+    @BeforeEach
+    void setUp() {
+        Line line = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line.addLineStation(new LineStation(1L, null, 0, 0));
+        line.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        lineService = mock(LineService.class);
+        when(lineService.findLines()).thenReturn(Lists.newArrayList(line));
+
+        subwayNetworkService = new SubwayNetworkService(lineService);
+    }
+
+    @DisplayName("노선 정보가 바뀌지 않았다면 같은 그래프를 재사용한다.")
+    @Test
+    void reuseNetwork() {
+        SubwayNetwork first = subwayNetworkService.getNetwork();
+        SubwayNetwork second = subwayNetworkService.getNetwork();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getGraph(PathType.DISTANCE).vertexSet()).containsExactlyInAnyOrder(1L, 2L);
+        verify(lineService, times(1)).findLines();
+    }
+
+    @DisplayName("노선 정보가 바뀌면 새 버전의 그래프를 만든다.")
+    @Test
+    void rebuildNetwork() {
+        SubwayNetwork first = subwayNetworkService.getNetwork();
+
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("line"));
+        SubwayNetwork second = subwayNetworkService.getNetwork();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        verify(lineService, times(2)).findLines();
+    }
+
+    @DisplayName("노선의 구간만 바뀌면 그 노선만 다시 읽어 새 버전의 그래프에 반영한다.")
+    @Test
+    void applyLineStationChange() {
+        SubwayNetwork first = subwayNetworkService.getNetwork();
+        Line changed = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        changed.addLineStation(new LineStation(1L, null, 0, 0));
+        changed.addLineStation(new LineStation(2L, 1L, 2, 2));
+        changed.addLineStation(new LineStation(3L, 2L, 3, 3));
+        when(lineService.findLinesWithLineStations(anyCollection())).thenReturn(Lists.newArrayList(changed));
+
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("lineStation", 1L));
+        SubwayNetwork second = subwayNetworkService.getNetwork();
+
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(first.getGraph(PathType.DISTANCE).vertexSet()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second.getGraph(PathType.DISTANCE).vertexSet()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(second.getCompactGraph(PathType.DISTANCE).findPath(1L, 3L).calculateDistance()).isEqualTo(5);
+        verify(lineService, times(1)).findLines();
+        verify(lineService).findLinesWithLineStations(Lists.newArrayList(1L));
+    }
+
+    @DisplayName("바뀐 노선을 읽다가 실패하면 변경을 잃지 않고 다음 조회에서 다시 반영한다.")
+    @Test
+    void retryLineStationChangeAfterFailure() {
+        SubwayNetwork first = subwayNetworkService.getNetwork();
+        Line changed = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        changed.addLineStation(new LineStation(1L, null, 0, 0));
+        changed.addLineStation(new LineStation(2L, 1L, 2, 2));
+        changed.addLineStation(new LineStation(3L, 2L, 3, 3));
+        when(lineService.findLinesWithLineStations(anyCollection()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Lists.newArrayList(changed));
+
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("lineStation", 1L));
+        assertThatThrownBy(() -> subwayNetworkService.getNetwork())
+                .isInstanceOf(IllegalStateException.class);
+        SubwayNetwork second = subwayNetworkService.getNetwork();
+
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(second.getGraph(PathType.DISTANCE).vertexSet()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(lineService, times(2)).findLinesWithLineStations(Lists.newArrayList(1L));
+    }
+
+    @DisplayName("전체를 다시 만들다 실패하면 다음 조회에서 다시 전체를 만든다.")
+    @Test
+    void retryFullRebuildAfterFailure() {
+        subwayNetworkService.getNetwork();
+        Line line = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line.addLineStation(new LineStation(1L, null, 0, 0));
+        line.addLineStation(new LineStation(3L, 1L, 2, 2));
+        doThrow(new IllegalStateException("database unavailable"))
+                .doReturn(Lists.newArrayList(line))
+                .when(lineService).findLines();
+
+        subwayNetworkService.invalidate(new SubwayNetworkChangedEvent("line"));
+        assertThatThrownBy(() -> subwayNetworkService.getNetwork())
+                .isInstanceOf(IllegalStateException.class);
+        SubwayNetwork second = subwayNetworkService.getNetwork();
+
+        assertThat(second.getGraph(PathType.DISTANCE).vertexSet()).containsExactlyInAnyOrder(1L, 3L);
+        verify(lineService, times(3)).findLines();
+    }
+}
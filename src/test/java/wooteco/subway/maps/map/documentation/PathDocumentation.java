@@ -80,7 +80,9 @@ public class PathDocumentation extends Documentation {
                                 fieldWithPath("stations.[].name").type(JsonFieldType.STRING).description("지하철역 이름"),
                                 fieldWithPath("duration").type(JsonFieldType.NUMBER).description("소요 시간"),
                                 fieldWithPath("distance").type(JsonFieldType.NUMBER).description("이동 거리"),
-                                fieldWithPath("fare").type(JsonFieldType.NUMBER).description("요금"))))
+                                fieldWithPath("fare").type(JsonFieldType.NUMBER).description("요금"),
+                                fieldWithPath("transferCount").type(JsonFieldType.NUMBER).description("환승 횟수"),
+                                fieldWithPath("transferStations").type(JsonFieldType.ARRAY).description("환승역 목록"))))
                 .extract();
     }
 }
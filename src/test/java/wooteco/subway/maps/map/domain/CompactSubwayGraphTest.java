@@ -0,0 +1,339 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.application.PathService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("CSR 배열 기반 경로 탐색 테스트")
+public class CompactSubwayGraphTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("구간 하나를 양방향 arc 두 개로 저장한다.")
+    @Test
+    void of() {
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DISTANCE);
+
+        assertThat(graph.getStationCount()).isEqualTo(4);
+        assertThat(graph.getArcCount()).isEqualTo(8);
+    }
+
+    @DisplayName("최단 거리 경로를 조회한다.")
+    @Test
+    void findPathByDistance() {
+        SubwayPath subwayPath = CompactSubwayGraph.of(lines, PathType.DISTANCE).findPath(1L, 3L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(1L, 4L, 3L);
+    }
+
+    @DisplayName("최소 시간 경로를 조회한다.")
+    @Test
+    void findPathByDuration() {
+        SubwayPath subwayPath = CompactSubwayGraph.of(lines, PathType.DURATION).findPath(1L, 3L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("노선에 없는 역으로는 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithUnknownStation() {
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DISTANCE);
+
+        assertThatThrownBy(() -> graph.findPath(1L, 100L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("같은 비용으로 두 역을 잇는 다른 노선의 구간이 있으면 환승하지 않는 노선으로 지난다.")
+    @Test
+    void findPathPrefersSameLineOnParallelSegment() {
+        Line line4 = TestObjectUtils.createLine(4L, "9호선", "BROWN");
+        line4.addLineStation(new LineStation(4L, null, 0, 0));
+        line4.addLineStation(new LineStation(1L, 4L, 1, 2));
+        line4.addLineStation(new LineStation(2L, 1L, 2, 2));
+        lines.add(line4);
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DISTANCE);
+
+        SubwayPath toGangnam = graph.findPath(4L, 2L);
+        SubwayPath toYangjae = graph.findPathBidirectional(1L, 3L);
+
+        assertThat(toGangnam.extractStationId()).containsExactly(4L, 1L, 2L);
+        assertThat(toGangnam.extractTransferStationIds()).isEmpty();
+        assertThat(toYangjae.extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(toYangjae.extractTransferStationIds()).isEmpty();
+    }
+
+    @DisplayName("조회 기준의 비용만 같고 다른 비용이 다른 구간으로는 환승을 줄이려고 노선을 바꾸지 않는다.")
+    @Test
+    void findPathKeepsSegmentWithDifferentDuration() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 5, 3));
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(2L, null, 0, 0));
+        line3.addLineStation(new LineStation(3L, 2L, 5, 3));
+        Line slowLine = TestObjectUtils.createLine(4L, "9호선", "BROWN");
+        slowLine.addLineStation(new LineStation(1L, null, 0, 0));
+        slowLine.addLineStation(new LineStation(2L, 1L, 5, 9));
+        slowLine.addLineStation(new LineStation(3L, 2L, 5, 9));
+        CompactSubwayGraph graph = CompactSubwayGraph.of(Lists.newArrayList(line1, line3, slowLine), PathType.DISTANCE);
+
+        SubwayPath subwayPath = graph.findPath(1L, 3L);
+
+        assertThat(subwayPath.calculateDistance()).isEqualTo(10);
+        assertThat(subwayPath.calculateDuration()).isEqualTo(6);
+        assertThat(subwayPath.extractTransferStationIds()).containsExactly(2L);
+    }
+
+    @DisplayName("출발역 하나에서 여러 도착역까지의 최단 경로를 한 번에 조회한다.")
+    @Test
+    void findPaths() {
+        Map<Long, SubwayPath> paths = CompactSubwayGraph.of(lines, PathType.DISTANCE).findPaths(1L, Lists.newArrayList(3L, 2L));
+
+        assertThat(paths).hasSize(2);
+        assertThat(paths.get(3L).extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(paths.get(2L).extractStationId()).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("예산 안에서 도달할 수 있는 역을 가까운 순서대로 비용과 함께 조회한다.")
+    @Test
+    void findReachable() {
+        Map<Long, Integer> reachable = CompactSubwayGraph.of(lines, PathType.DISTANCE).findReachable(1L, 2);
+
+        assertThat(reachable).containsExactly(entry(1L, 0), entry(4L, 1), entry(2L, 2));
+    }
+
+    @DisplayName("예산이 음수이면 조회할 수 없다.")
+    @Test
+    void findReachableWithNegativeBudget() {
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DURATION);
+
+        assertThatThrownBy(() -> graph.findReachable(1L, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("예산이 int 최댓값에 가까워도 비용이 넘치는 역은 도달할 수 없는 역으로 본다.")
+    @Test
+    void findReachableWithLargeBudget() {
+        Line line = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line.addLineStation(new LineStation(1L, null, 0, 0));
+        line.addLineStation(new LineStation(2L, 1L, Integer.MAX_VALUE - 1, 1));
+        line.addLineStation(new LineStation(3L, 2L, 5, 1));
+
+        Map<Long, Integer> reachable = CompactSubwayGraph.of(Lists.newArrayList(line), PathType.DISTANCE)
+                .findReachable(1L, Integer.MAX_VALUE);
+
+        assertThat(reachable).containsExactly(entry(1L, 0), entry(2L, Integer.MAX_VALUE - 1));
+    }
+
+    @DisplayName("임의의 노선도에서 jgrapht 다익스트라와 같은 비용의 경로를 찾는다.")
+    @Test
+    void sameCostAsJgrapht() {
+        Random random = new Random(2020);
+        List<Line> randomLines = createRandomLines(random, 60, 8);
+        PathService pathService = new PathService();
+
+        for (PathType type : PathType.values()) {
+            CompactSubwayGraph graph = CompactSubwayGraph.of(randomLines, type);
+            for (int i = 0; i < 200; i++) {
+                Long source = randomLines.get(0).getStationInOrder().get(0).getStationId();
+                List<LineStation> targetLine = randomLines.get(random.nextInt(randomLines.size())).getStationInOrder();
+                Long target = targetLine.get(random.nextInt(targetLine.size())).getStationId();
+
+                SubwayPath expected = pathService.findPath(randomLines, source, target, type);
+                SubwayPath actual = graph.findPath(source, target);
+
+                assertThat(weightOf(actual, type)).isEqualTo(weightOf(expected, type));
+            }
+        }
+    }
+
+    @DisplayName("양방향 탐색은 임의의 노선도에서 기존 탐색과 같은 비용의 경로를 찾는다.")
+    @Test
+    void bidirectionalSameCostAsJgrapht() {
+        Random random = new Random(2021);
+        List<Line> randomLines = createRandomLines(random, 80, 10);
+        PathService pathService = new PathService();
+
+        for (PathType type : PathType.values()) {
+            CompactSubwayGraph graph = CompactSubwayGraph.of(randomLines, type);
+            for (int i = 0; i < 300; i++) {
+                Long source = randomStationOf(random, randomLines);
+                Long target = randomStationOf(random, randomLines);
+
+                SubwayPath expected = pathService.findPath(randomLines, source, target, type);
+                SubwayPath actual = graph.findPathBidirectional(source, target);
+
+                assertThat(weightOf(actual, type)).isEqualTo(weightOf(expected, type));
+                if (!source.equals(target)) {
+                    assertThat(actual.extractStationId()).startsWith(source).endsWith(target);
+                }
+            }
+        }
+    }
+
+    @DisplayName("랜드마크 A* 탐색은 임의의 노선도에서 기존 탐색과 같은 비용의 경로를 찾는다.")
+    @Test
+    void landmarksSameCostAsJgrapht() {
+        Random random = new Random(2022);
+        List<Line> randomLines = createRandomLines(random, 80, 10);
+        PathService pathService = new PathService();
+
+        for (PathType type : PathType.values()) {
+            CompactSubwayGraph graph = CompactSubwayGraph.of(randomLines, type, 4);
+            for (int i = 0; i < 300; i++) {
+                Long source = randomStationOf(random, randomLines);
+                Long target = randomStationOf(random, randomLines);
+
+                SubwayPath expected = pathService.findPath(randomLines, source, target, type);
+                SubwayPath actual = graph.findPathWithLandmarks(source, target);
+
+                assertThat(weightOf(actual, type)).isEqualTo(weightOf(expected, type));
+            }
+        }
+    }
+
+    @DisplayName("랜드마크는 역 수보다 많이 고르지 않는다.")
+    @Test
+    void landmarkCount() {
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DURATION, 16);
+
+        assertThat(graph.getLandmarkCount()).isEqualTo(4);
+        assertThat(graph.findPathWithLandmarks(1L, 3L).extractStationId()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("랜드마크 표는 그래프를 만들 때가 아니라 랜드마크 탐색을 처음 할 때 만든다.")
+    @Test
+    void landmarkTablesAreLazy() {
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DURATION)
+                .withLines(Collections.singletonList(1L), Collections.emptyList(), PathType.DURATION);
+        assertThat(graph.hasLandmarkTables()).isFalse();
+
+        graph.findPath(1L, 3L);
+        assertThat(graph.hasLandmarkTables()).isFalse();
+
+        graph.findPathWithLandmarks(1L, 3L);
+        assertThat(graph.hasLandmarkTables()).isTrue();
+    }
+
+    @DisplayName("바뀐 노선만 반영한 그래프는 처음부터 만든 그래프와 같은 비용의 경로를 찾고, 기존 그래프는 그대로 둔다.")
+    @Test
+    void withLines() {
+        CompactSubwayGraph graph = CompactSubwayGraph.of(lines, PathType.DISTANCE);
+        Line changed = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        changed.addLineStation(new LineStation(1L, null, 0, 0));
+        changed.addLineStation(new LineStation(4L, 1L, 1, 2));
+        changed.addLineStation(new LineStation(3L, 4L, 2, 2));
+        changed.addLineStation(new LineStation(5L, 3L, 1, 1));
+        List<Line> changedLines = Lists.newArrayList(lines.get(0), lines.get(1), changed);
+
+        CompactSubwayGraph updated = graph.withLines(Collections.singletonList(3L), Collections.singletonList(changed), PathType.DISTANCE);
+        CompactSubwayGraph expected = CompactSubwayGraph.of(changedLines, PathType.DISTANCE);
+
+        assertThat(graph.getStationCount()).isEqualTo(4);
+        assertThat(updated.getStationCount()).isEqualTo(5);
+        for (long source = 1; source <= 5; source++) {
+            for (long target = 1; target <= 5; target++) {
+                assertThat(updated.findPath(source, target).calculateDistance())
+                        .isEqualTo(expected.findPath(source, target).calculateDistance());
+            }
+        }
+        assertThat(updated.findPath(1L, 5L).extractStationId()).containsExactly(1L, 4L, 3L, 5L);
+    }
+
+    @DisplayName("크기가 다른 그래프가 한 스레드의 작업 공간을 번갈아 써도 각자의 최단 경로를 찾는다.")
+    @Test
+    void shareWorkspaceBetweenGraphs() {
+        CompactSubwayGraph small = CompactSubwayGraph.of(lines, PathType.DISTANCE);
+        Random random = new Random(2023);
+        List<Line> randomLines = createRandomLines(random, 60, 8);
+        CompactSubwayGraph large = CompactSubwayGraph.of(randomLines, PathType.DISTANCE);
+        PathService pathService = new PathService();
+
+        for (int i = 0; i < 50; i++) {
+            Long source = randomStationOf(random, randomLines);
+            Long target = randomStationOf(random, randomLines);
+            SubwayPath expected = pathService.findPath(randomLines, source, target, PathType.DISTANCE);
+
+            assertThat(weightOf(large.findPathBidirectional(source, target), PathType.DISTANCE))
+                    .isEqualTo(weightOf(expected, PathType.DISTANCE));
+            assertThat(small.findPathBidirectional(1L, 3L).extractStationId()).containsExactly(1L, 4L, 3L);
+            assertThat(small.findReachable(1L, 2)).containsExactly(entry(1L, 0), entry(4L, 1), entry(2L, 2));
+        }
+    }
+
+    private Long randomStationOf(Random random, List<Line> lines) {
+        List<LineStation> lineStations = lines.get(random.nextInt(lines.size())).getStationInOrder();
+        return lineStations.get(random.nextInt(lineStations.size())).getStationId();
+    }
+
+    private List<Line> createRandomLines(Random random, int stationCount, int lineCount) {
+        List<Long> stationIds = new ArrayList<>();
+        for (long id = 1; id <= stationCount; id++) {
+            stationIds.add(id);
+        }
+
+        // 모든 노선이 1번 역을 지나도록 만들어 연결된 노선도를 보장한다
+        List<Line> lines = new ArrayList<>();
+        for (long lineId = 1; lineId <= lineCount; lineId++) {
+            Collections.shuffle(stationIds, random);
+            stationIds.remove(1L);
+            stationIds.add(random.nextInt(10), 1L);
+
+            Line line = TestObjectUtils.createLine(lineId, lineId + "호선", "COLOR");
+            Long preStationId = null;
+            for (Long stationId : stationIds.subList(0, 10 + random.nextInt(10))) {
+                int distance = preStationId == null ? 0 : 1 + random.nextInt(10);
+                int duration = preStationId == null ? 0 : 1 + random.nextInt(10);
+                line.addLineStation(new LineStation(stationId, preStationId, distance, duration));
+                preStationId = stationId;
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private int weightOf(SubwayPath subwayPath, PathType type) {
+        return subwayPath.getLineStationEdges().stream()
+                .mapToInt(it -> type.findWeightOf(it.getLineStation()))
+                .sum();
+    }
+}
@@ -0,0 +1,146 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+import wooteco.subway.maps.map.application.PathService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("축약 계층 경로 탐색 테스트")
+public class ContractionHierarchyTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("지름길을 원래 구간으로 펼쳐 최단 거리 경로를 조회한다.")
+    @Test
+    void findPathByDistance() {
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(CompactSubwayGraph.of(lines, PathType.DISTANCE));
+
+        assertThat(hierarchy.findPath(1L, 3L).extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(hierarchy.findPath(3L, 1L).calculateDistance()).isEqualTo(3);
+    }
+
+    @DisplayName("지름길을 원래 구간으로 펼쳐 최소 시간 경로를 조회한다.")
+    @Test
+    void findPathByDuration() {
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(CompactSubwayGraph.of(lines, PathType.DURATION));
+
+        assertThat(hierarchy.findPath(1L, 3L).extractStationId()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("노선에 없는 역으로는 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithUnknownStation() {
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(CompactSubwayGraph.of(lines, PathType.DISTANCE));
+
+        assertThatThrownBy(() -> hierarchy.findPath(1L, 100L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("임의의 노선도에서 jgrapht 다익스트라와 같은 비용의 연결된 경로를 찾는다.")
+    @Test
+    void sameCostAsJgrapht() {
+        Random random = new Random(2023);
+        List<Line> randomLines = createRandomLines(random, 120, 12);
+        PathService pathService = new PathService();
+
+        for (PathType type : PathType.values()) {
+            ContractionHierarchy hierarchy = ContractionHierarchy.of(CompactSubwayGraph.of(randomLines, type));
+            for (int i = 0; i < 300; i++) {
+                Long source = 1L + random.nextInt(120);
+                Long target = 1L + random.nextInt(120);
+                if (source.equals(target)) {
+                    continue;
+                }
+
+                SubwayPath expected = pathService.findPath(randomLines, source, target, type);
+                SubwayPath actual = hierarchy.findPath(source, target);
+
+                assertThat(weightOf(actual, type)).isEqualTo(weightOf(expected, type));
+                assertThat(isConnected(actual, source, target)).isTrue();
+            }
+        }
+    }
+
+    // 노선마다 1번 역을 지나고, 각 노선이 모든 역을 한 번씩 나누어 가지도록 만든다
+    private List<Line> createRandomLines(Random random, int stationCount, int lineCount) {
+        List<Line> lines = new ArrayList<>();
+        for (long lineId = 1; lineId <= lineCount; lineId++) {
+            Line line = TestObjectUtils.createLine(lineId, lineId + "호선", "COLOR");
+            line.addLineStation(new LineStation(1L, null, 0, 0));
+            lines.add(line);
+        }
+        Long[] lastStationIds = new Long[lineCount];
+        for (long stationId = 2; stationId <= stationCount; stationId++) {
+            int index = random.nextInt(lineCount);
+            Long preStationId = lastStationIds[index] == null ? 1L : lastStationIds[index];
+            lines.get(index).addLineStation(new LineStation(stationId, preStationId, 1 + random.nextInt(10), 1 + random.nextInt(10)));
+            lastStationIds[index] = stationId;
+        }
+        // 노선 끝끼리 구간을 이어 순환이 생기게 한다
+        for (int i = 0; i < lineCount; i++) {
+            Long last = lastStationIds[i];
+            Long other = lastStationIds[(i + 1) % lineCount];
+            if (last != null && other != null) {
+                lines.get(i).addLineStation(new LineStation(other, last, 1 + random.nextInt(10), 1 + random.nextInt(10)));
+            }
+        }
+        return lines;
+    }
+
+    private int weightOf(SubwayPath subwayPath, PathType type) {
+        return subwayPath.getLineStationEdges().stream()
+                .mapToInt(it -> type.findWeightOf(it.getLineStation()))
+                .sum();
+    }
+
+    // 펼친 구간들이 출발역부터 도착역까지 끊기지 않고 이어지는지 확인한다
+    private boolean isConnected(SubwayPath subwayPath, Long source, Long target) {
+        Long current = source;
+        for (LineStationEdge edge : subwayPath.getLineStationEdges()) {
+            LineStation lineStation = edge.getLineStation();
+            if (current.equals(lineStation.getPreStationId())) {
+                current = lineStation.getStationId();
+            } else if (current.equals(lineStation.getStationId())) {
+                current = lineStation.getPreStationId();
+            } else {
+                return false;
+            }
+        }
+        return current.equals(target);
+    }
+}
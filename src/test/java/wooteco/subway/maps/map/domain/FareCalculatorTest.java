@@ -0,0 +1,67 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요금 계산 테스트")
+public class FareCalculatorTest {
+    private Line line;
+    private Line lineWithFare;
+    private Line lineWithHigherFare;
+
+    @BeforeEach
+    void setUp() {
+        line = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line.addLineStation(new LineStation(1L, null, 0, 0));
+        line.addLineStation(new LineStation(2L, 1L, 100, 10));
+
+        lineWithFare = TestObjectUtils.createLineWithExtraFare(2L, "신분당선", "RED", 500);
+        lineWithFare.addLineStation(new LineStation(2L, null, 0, 0));
+        lineWithFare.addLineStation(new LineStation(3L, 2L, 5, 5));
+
+        lineWithHigherFare = TestObjectUtils.createLineWithExtraFare(3L, "3호선", "ORANGE", 900);
+        lineWithHigherFare.addLineStation(new LineStation(3L, null, 0, 0));
+        lineWithHigherFare.addLineStation(new LineStation(4L, 3L, 5, 5));
+    }
+
+    @DisplayName("거리별 요금은 10km 까지 기본 요금, 50km 까지 5km 마다, 그 이후 8km 마다 100원씩 추가된다.")
+    @ParameterizedTest
+    @CsvSource({"1,1250", "10,1250", "11,1350", "15,1350", "16,1450", "35,1750", "50,2050", "51,2150", "58,2150", "59,2250", "100,2750"})
+    void calculateFareByDistance(int distance, int expected) {
+        FareCalculator fareCalculator = FareCalculator.of(Lists.newArrayList(line));
+        SubwayPath subwayPath = new SubwayPath(Lists.newArrayList(
+                new LineStationEdge(new LineStation(2L, 1L, distance, 1), line.getId())));
+
+        assertThat(fareCalculator.calculateFare(subwayPath)).isEqualTo(expected);
+    }
+
+    @DisplayName("요금표보다 긴 거리도 같은 규칙으로 계산한다.")
+    @Test
+    void calculateFareBeyondTable() {
+        FareCalculator fareCalculator = FareCalculator.of(Lists.newArrayList(lineWithFare));
+        SubwayPath subwayPath = new SubwayPath(Lists.newArrayList(
+                new LineStationEdge(new LineStation(3L, 2L, 100, 1), line.getId())));
+
+        assertThat(fareCalculator.calculateFare(subwayPath)).isEqualTo(2750);
+    }
+
+    @DisplayName("지나는 노선 중 가장 높은 추가 요금만 더한다.")
+    @Test
+    void calculateFareByLine() {
+        FareCalculator fareCalculator = FareCalculator.of(Lists.newArrayList(line, lineWithFare, lineWithHigherFare));
+        SubwayPath subwayPath = new SubwayPath(Lists.newArrayList(
+                new LineStationEdge(lineWithFare.getStationInOrder().get(1), lineWithFare.getId()),
+                new LineStationEdge(lineWithHigherFare.getStationInOrder().get(1), lineWithHigherFare.getId())));
+
+        assertThat(fareCalculator.calculateFare(subwayPath)).isEqualTo(1250 + 900);
+    }
+}
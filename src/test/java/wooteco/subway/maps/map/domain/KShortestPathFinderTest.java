@@ -0,0 +1,81 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("대안 경로 탐색 테스트")
+public class KShortestPathFinderTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("짧은 경로부터 차례로 찾는다.")
+    @Test
+    void findPaths() {
+        KShortestPathFinder finder = new KShortestPathFinder(CompactSubwayGraph.of(lines, PathType.DISTANCE));
+
+        List<SubwayPath> paths = finder.findPaths(1L, 3L, 3);
+
+        assertThat(paths).hasSize(2);
+        assertThat(paths.get(0).extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(paths.get(1).extractStationId()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("이미 찾은 경로와 같은 역들을 지나는 경로는 대안으로 내놓지 않는다.")
+    @Test
+    void findPathsWithOverlap() {
+        Line line4 = TestObjectUtils.createLine(4L, "4호선", "BLUE");
+        line4.addLineStation(new LineStation(4L, null, 0, 0));
+        line4.addLineStation(new LineStation(3L, 4L, 2, 2));
+        lines.add(line4);
+        KShortestPathFinder finder = new KShortestPathFinder(CompactSubwayGraph.of(lines, PathType.DISTANCE));
+
+        List<SubwayPath> paths = finder.findPaths(1L, 3L, 2);
+
+        assertThat(paths).hasSize(2);
+        assertThat(paths.get(0).extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(paths.get(1).extractStationId()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("경로 수는 1 이상이어야 한다.")
+    @Test
+    void findPathsWithInvalidCount() {
+        KShortestPathFinder finder = new KShortestPathFinder(CompactSubwayGraph.of(lines, PathType.DISTANCE));
+
+        assertThatThrownBy(() -> finder.findPaths(1L, 3L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("막차 표 테스트")
+public class LastTrainTableTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("막차를 탈 수 있는 가장 늦은 출발 시각을 찾는다.")
+    @Test
+    void findLatestDeparture() {
+        LastTrainTable table = LastTrainTable.of(Timetable.of(lines));
+
+        assertThat(table.findLatestDeparture(1L, 3L)).contains(LocalTime.of(23, 30));
+        assertThat(table.findLatestDeparture(4L, 1L)).contains(LocalTime.of(23, 32));
+    }
+
+    @DisplayName("가장 늦은 출발 시각까지는 도착역에 갈 수 있다.")
+    @Test
+    void isReachable() {
+        LastTrainTable table = LastTrainTable.of(Timetable.of(lines));
+
+        assertThat(table.isReachable(1L, 3L, LocalTime.of(23, 30))).isTrue();
+        assertThat(table.isReachable(1L, 3L, LocalTime.of(23, 31))).isFalse();
+        assertThat(table.isReachable(3L, 3L, LocalTime.of(23, 59))).isTrue();
+    }
+
+    @DisplayName("도착역 하나만 계산한 표도 전체 표와 같은 시각을 돌려준다.")
+    @Test
+    void ofDestinations() {
+        Timetable timetable = Timetable.of(lines);
+        LastTrainTable table = LastTrainTable.of(timetable, Collections.singletonList(1L));
+
+        assertThat(table.findLatestDeparture(4L, 1L)).isEqualTo(LastTrainTable.of(timetable).findLatestDeparture(4L, 1L));
+        assertThatThrownBy(() -> table.findLatestDeparture(1L, 3L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("여러 기준 경로 탐색 테스트")
+public class ParetoPathFinderTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("더 빠른 경로와 더 짧은 경로를 모두 찾고, 빠른 경로부터 돌려준다.")
+    @Test
+    void findPaths() {
+        ParetoPathFinder finder = new ParetoPathFinder(CompactSubwayGraph.of(lines, PathType.DURATION), FareCalculator.of(lines), 100);
+
+        List<SubwayPath> paths = finder.findPaths(1L, 3L);
+
+        assertThat(paths).hasSize(2);
+        assertThat(paths.get(0).extractStationId()).containsExactly(1L, 2L, 3L);
+        assertThat(paths.get(0).extractTransferStationIds()).containsExactly(2L);
+        assertThat(paths.get(1).extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(paths.get(1).extractTransferStationIds()).isEmpty();
+    }
+
+    @DisplayName("추가 요금 때문에 더 비싸지는 경로도 다른 기준에서 낫다면 함께 찾는다.")
+    @Test
+    void findPathsWithExtraFare() {
+        Line line4 = TestObjectUtils.createLineWithExtraFare(4L, "신분당선 연장", "RED", 900);
+        line4.addLineStation(new LineStation(1L, null, 0, 0));
+        line4.addLineStation(new LineStation(3L, 1L, 1, 1));
+        lines.add(line4);
+        ParetoPathFinder finder = new ParetoPathFinder(CompactSubwayGraph.of(lines, PathType.DURATION), FareCalculator.of(lines), 100);
+
+        List<SubwayPath> paths = finder.findPaths(1L, 3L);
+
+        assertThat(paths.stream().map(SubwayPath::calculateDuration).collect(Collectors.toList())).containsExactly(1, 3, 4);
+    }
+
+    @DisplayName("라벨 한도 안에서 도착하지 못하면 최단 경로 하나만 돌려준다.")
+    @Test
+    void findPathsWithLabelLimit() {
+        ParetoPathFinder finder = new ParetoPathFinder(CompactSubwayGraph.of(lines, PathType.DISTANCE), FareCalculator.of(lines), 1);
+
+        List<SubwayPath> paths = finder.findPaths(1L, 3L);
+
+        assertThat(paths).hasSize(1);
+        assertThat(paths.get(0).extractStationId()).containsExactly(1L, 4L, 3L);
+    }
+
+    @DisplayName("라벨 한도는 1 이상이어야 한다.")
+    @Test
+    void createWithInvalidLabelLimit() {
+        assertThatThrownBy(() -> new ParetoPathFinder(CompactSubwayGraph.of(lines, PathType.DISTANCE), FareCalculator.of(lines), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
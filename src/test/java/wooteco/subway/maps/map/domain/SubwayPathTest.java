@@ -0,0 +1,60 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 테스트")
+public class SubwayPathTest {
+    private LineStationEdge edge12;
+    private LineStationEdge edge23;
+    private LineStationEdge edge34;
+
+    @BeforeEach
+    void setUp() {
+        edge12 = new LineStationEdge(new LineStation(2L, 1L, 2, 2), 1L);
+        edge23 = new LineStationEdge(new LineStation(3L, 2L, 2, 2), 1L);
+        edge34 = new LineStationEdge(new LineStation(4L, 3L, 2, 2), 2L);
+    }
+
+    @DisplayName("노선 방향으로 지나는 경로의 역 목록을 구한다.")
+    @Test
+    void extractStationId() {
+        SubwayPath subwayPath = new SubwayPath(Lists.newArrayList(edge12, edge23, edge34), 1L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(subwayPath.extractTransferStationIds()).containsExactly(3L);
+    }
+
+    @DisplayName("노선 방향과 반대로 지나는 경로는 출발역에서부터 역 목록을 구한다.")
+    @Test
+    void extractStationIdInReverse() {
+        SubwayPath subwayPath = new SubwayPath(Lists.newArrayList(edge34, edge23, edge12), 4L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(subwayPath.extractTransferStationIds()).containsExactly(3L);
+    }
+
+    @DisplayName("출발역을 주지 않아도 이어진 구간에서 출발역을 찾는다.")
+    @Test
+    void extractStationIdWithoutSource() {
+        SubwayPath subwayPath = new SubwayPath(Lists.newArrayList(edge23, edge12));
+
+        assertThat(subwayPath.extractStationId()).containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 출발역 하나만 지난다.")
+    @Test
+    void extractStationIdOfEmptyPath() {
+        SubwayPath subwayPath = new SubwayPath(new ArrayList<>(), 1L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(1L);
+        assertThat(subwayPath.extractTransferStationIds()).isEmpty();
+    }
+}
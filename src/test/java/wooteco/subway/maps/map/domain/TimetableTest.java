@@ -0,0 +1,113 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("시간표 기반 여정 탐색 테스트")
+public class TimetableTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("노선마다 상행과 하행 계통을 만든다.")
+    @Test
+    void of() {
+        assertThat(Timetable.of(lines).getRouteCount()).isEqualTo(6);
+    }
+
+    @DisplayName("출발 시각 이후에 타서 가장 일찍 도착하는 여정을 찾는다.")
+    @Test
+    void findEarliestArrival() {
+        Optional<Journey> journey = Timetable.of(lines).findEarliestArrival(1L, 3L, LocalTime.of(5, 30));
+
+        assertThat(journey).isPresent();
+        assertThat(journey.get().getPath().extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(journey.get().getDepartureTime()).isEqualTo(LocalTime.of(5, 30));
+        assertThat(journey.get().getArrivalTime()).isEqualTo(LocalTime.of(5, 34));
+    }
+
+    @DisplayName("환승역에서 다음 열차를 기다리는 시간도 걸린 시간에 포함한다.")
+    @Test
+    void findEarliestArrivalWithTransfer() {
+        Optional<Journey> journey = Timetable.of(lines).findEarliestArrival(2L, 4L, LocalTime.of(5, 30));
+
+        assertThat(journey).isPresent();
+        assertThat(journey.get().getArrivalTime()).isEqualTo(LocalTime.of(5, 42));
+        assertThat(journey.get().getElapsedMinutes()).isEqualTo(12);
+        assertThat(journey.get().getPath().extractTransferStationIds()).hasSize(1);
+    }
+
+    @DisplayName("막차가 떠난 뒤에는 여정을 찾지 못한다.")
+    @Test
+    void findEarliestArrivalAfterLastTrain() {
+        Optional<Journey> journey = Timetable.of(lines).findEarliestArrival(1L, 3L, LocalTime.of(23, 31));
+
+        assertThat(journey).isEmpty();
+    }
+
+    @DisplayName("자정이 지난 시각은 전날 운행의 끝으로 보아, 다음 날 첫차를 타는 여정을 찾지 않는다.")
+    @Test
+    void findEarliestArrivalPastMidnight() {
+        Optional<Journey> journey = Timetable.of(lines).findEarliestArrival(1L, 3L, LocalTime.of(0, 10));
+
+        assertThat(journey).isEmpty();
+    }
+
+    @DisplayName("자정을 넘겨 운행하는 노선은 자정이 지난 시각에도 그날 밤 열차를 탄다.")
+    @Test
+    void findEarliestArrivalOnLineRunningPastMidnight() {
+        Line nightLine = new Line("심야선", "BLACK", LocalTime.of(23, 0), LocalTime.of(1, 0), 30);
+        ReflectionTestUtils.setField(nightLine, "id", 4L);
+        nightLine.addLineStation(new LineStation(1L, null, 0, 0));
+        nightLine.addLineStation(new LineStation(2L, 1L, 2, 5));
+
+        Optional<Journey> journey = Timetable.of(Lists.newArrayList(nightLine)).findEarliestArrival(1L, 2L, LocalTime.of(0, 10));
+
+        assertThat(journey).isPresent();
+        assertThat(journey.get().getDepartureTime()).isEqualTo(LocalTime.of(0, 30));
+        assertThat(journey.get().getArrivalTime()).isEqualTo(LocalTime.of(0, 35));
+    }
+
+    @DisplayName("노선에 없는 역으로는 여정을 찾을 수 없다.")
+    @Test
+    void findEarliestArrivalWithUnknownStation() {
+        assertThatThrownBy(() -> Timetable.of(lines).findEarliestArrival(1L, 99L, LocalTime.of(6, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
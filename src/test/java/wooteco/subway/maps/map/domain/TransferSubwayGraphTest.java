@@ -0,0 +1,78 @@
+package wooteco.subway.maps.map.domain;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.common.TestObjectUtils;
+import wooteco.subway.maps.line.domain.Line;
+import wooteco.subway.maps.line.domain.LineStation;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("환승 비용을 고려한 경로 탐색 테스트")
+public class TransferSubwayGraphTest {
+    private List<Line> lines;
+
+    /**
+     * 교대역(1)  --- *2호선* ---   강남역(2)
+     * |                            |
+     * *3호선*                   *신분당선*
+     * |                            |
+     * 남부터미널역(4) --- *3호선* --- 양재역(3)
+     */
+    @BeforeEach
+    void setUp() {
+        Line line1 = TestObjectUtils.createLine(1L, "2호선", "GREEN");
+        line1.addLineStation(new LineStation(1L, null, 0, 0));
+        line1.addLineStation(new LineStation(2L, 1L, 2, 2));
+
+        Line line2 = TestObjectUtils.createLine(2L, "신분당선", "RED");
+        line2.addLineStation(new LineStation(2L, null, 0, 0));
+        line2.addLineStation(new LineStation(3L, 2L, 2, 1));
+
+        Line line3 = TestObjectUtils.createLine(3L, "3호선", "ORANGE");
+        line3.addLineStation(new LineStation(1L, null, 0, 0));
+        line3.addLineStation(new LineStation(4L, 1L, 1, 2));
+        line3.addLineStation(new LineStation(3L, 4L, 2, 2));
+
+        lines = Lists.newArrayList(line1, line2, line3);
+    }
+
+    @DisplayName("역마다 지나는 노선 수만큼 정점을 만든다.")
+    @Test
+    void of() {
+        TransferSubwayGraph graph = TransferSubwayGraph.of(lines, PathType.DURATION, 5);
+
+        assertThat(graph.getNodeCount()).isEqualTo(7);
+    }
+
+    @DisplayName("환승 비용이 없으면 환승하더라도 가장 빠른 경로를 찾는다.")
+    @Test
+    void findPathWithoutPenalty() {
+        SubwayPath subwayPath = TransferSubwayGraph.of(lines, PathType.DURATION, 0).findPath(1L, 3L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(1L, 2L, 3L);
+        assertThat(subwayPath.extractTransferStationIds()).containsExactly(2L);
+    }
+
+    @DisplayName("환승 비용이 크면 조금 느리더라도 갈아타지 않는 경로를 찾는다.")
+    @Test
+    void findPathWithPenalty() {
+        SubwayPath subwayPath = TransferSubwayGraph.of(lines, PathType.DURATION, 2).findPath(1L, 3L);
+
+        assertThat(subwayPath.extractStationId()).containsExactly(1L, 4L, 3L);
+        assertThat(subwayPath.calculateDuration()).isEqualTo(4);
+        assertThat(subwayPath.extractTransferStationIds()).isEmpty();
+    }
+
+    @DisplayName("환승 비용은 음수일 수 없다.")
+    @Test
+    void ofWithNegativePenalty() {
+        assertThatThrownBy(() -> TransferSubwayGraph.of(lines, PathType.DISTANCE, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
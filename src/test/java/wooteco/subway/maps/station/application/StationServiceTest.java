@@ -6,6 +6,7 @@ import wooteco.subway.maps.station.domain.Station;
 import wooteco.subway.maps.station.domain.StationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -21,7 +22,7 @@ class StationServiceTest {
     @Test
     void findStationsByIds() {
         StationRepository stationRepository = mock(StationRepository.class);
-        StationService stationService = new StationService(stationRepository);
+        StationService stationService = new StationService(stationRepository, mock(ApplicationEventPublisher.class));
         ArrayList<Station> persistStations = Lists.newArrayList(
                 TestObjectUtils.createStation(1L, "강남역"),
                 TestObjectUtils.createStation(2L, "역삼역"),